@@ -0,0 +1,104 @@
+package com.boxcopilot.backend.benchmark;
+
+import com.boxcopilot.backend.BoxCopilotApplication;
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.perf.SyntheticData;
+import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.service.BoxService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BoxService list paths against an in-memory H2 database on the test profile, every box with a description.
+ * Compare revisions (e.g. before and after the description column change) by running this benchmark on each.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoxListBenchmark {
+
+    @Param({"10000"})
+    private int boxCount;
+
+    /** Characters per description; the box form allows up to Box.DESCRIPTION_MAX_LENGTH. */
+    @Param({"200"})
+    private int descriptionLength;
+
+    private ConfigurableApplicationContext context;
+    private BoxService boxService;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Command line arguments, so they take precedence over application.yml and application-test.yml
+        context = new SpringApplicationBuilder(BoxCopilotApplication.class).run(
+            "--spring.profiles.active=test",
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:jmh-box-list;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.boxcopilot.backend=WARN",
+            "--app.image.storage.path=" + Files.createTempDirectory("boxcopilot-jmh-box-list"));
+        boxService = context.getBean(BoxService.class);
+        seed(context.getBean(BoxRepository.class));
+    }
+
+    private void seed(BoxRepository boxRepository) {
+        Random random = new Random(42);
+        List<Box> boxes = new ArrayList<>(boxCount);
+        for (int b = 0; b < boxCount; b++) {
+            Box box = new Box(UUID.randomUUID().toString(), SyntheticData.ROOMS[b % SyntheticData.ROOMS.length],
+                SyntheticData.ROOMS[(b + 3) % SyntheticData.ROOMS.length], description(random));
+            box.setBoxNumber(b + 1);
+            boxes.add(box);
+        }
+        boxRepository.saveAll(boxes);
+    }
+
+    private String description(Random random) {
+        StringBuilder description = new StringBuilder(descriptionLength + 20);
+        while (description.length() < descriptionLength) {
+            description.append(SyntheticData.itemName(random)).append(", ");
+        }
+        return description.substring(0, descriptionLength);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<BoxResponseDTO> listBoxes() {
+        return boxService.getAllBoxes(false);
+    }
+
+    @Benchmark
+    public List<Map<String, Object>> listBoxFields() {
+        return boxService.getAllBoxFields("id,boxNumber,currentRoom,targetRoom,description");
+    }
+}
@@ -0,0 +1,68 @@
+package com.boxcopilot.backend.benchmark;
+
+import com.boxcopilot.backend.perf.SyntheticData;
+import com.boxcopilot.backend.service.ImageStorageService;
+import io.micrometer.observation.ObservationRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full upload pipeline of ImageStorageService.saveImage (decode, thumbnail + large resize, JPEG encode, write)
+ * for typical phone photo resolutions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ImageStorageBenchmark {
+
+    /** Full HD screenshot/compressed upload, 8 MP and 12 MP phone camera photos. */
+    @Param({"1920x1080", "3264x2448", "4032x3024"})
+    private String resolution;
+
+    private ImageStorageService imageStorageService;
+    private MockMultipartFile photo;
+    private Path storageDirectory;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] size = resolution.split("x");
+        byte[] jpeg = SyntheticData.photo(Integer.parseInt(size[0]), Integer.parseInt(size[1]), 42);
+        photo = new MockMultipartFile("file", "photo.jpg", "image/jpeg", jpeg);
+
+        storageDirectory = Files.createTempDirectory("boxcopilot-jmh-images");
+        imageStorageService = new ImageStorageService(ObservationRegistry.NOOP);
+        ReflectionTestUtils.setField(imageStorageService, "storagePath", storageDirectory.toString());
+        imageStorageService.init();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        FileSystemUtils.deleteRecursively(storageDirectory);
+    }
+
+    @Benchmark
+    public String saveImage() {
+        return imageStorageService.saveImage(1L, photo);
+    }
+}
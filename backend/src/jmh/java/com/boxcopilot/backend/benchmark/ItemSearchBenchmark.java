@@ -0,0 +1,110 @@
+package com.boxcopilot.backend.benchmark;
+
+import com.boxcopilot.backend.BoxCopilotApplication;
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.perf.SyntheticData;
+import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.ItemRepository;
+import com.boxcopilot.backend.service.ItemService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ItemService.searchItems against an in-memory H2 database on the test profile.
+ * The dataset size is a JMH parameter, e.g. -p itemCount=50000.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemSearchBenchmark {
+
+    @Param({"1000", "10000"})
+    private int itemCount;
+
+    @Param({"20"})
+    private int itemsPerBox;
+
+    /** Matches roughly one in twenty item names. */
+    @Param({"kabel"})
+    private String query;
+
+    private ConfigurableApplicationContext context;
+    private ItemService itemService;
+    private String boxUuid;
+
+    @Setup
+    public void setUp() throws IOException {
+        // Command line arguments, so they take precedence over application.yml and application-test.yml
+        context = new SpringApplicationBuilder(BoxCopilotApplication.class).run(
+            "--spring.profiles.active=test",
+            "--server.port=0",
+            "--spring.datasource.url=jdbc:h2:mem:jmh-search;DB_CLOSE_DELAY=-1",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.boxcopilot.backend=WARN",
+            "--app.image.storage.path=" + Files.createTempDirectory("boxcopilot-jmh-search"));
+        itemService = context.getBean(ItemService.class);
+        seed(context.getBean(BoxRepository.class), context.getBean(ItemRepository.class));
+    }
+
+    private void seed(BoxRepository boxRepository, ItemRepository itemRepository) {
+        Random random = new Random(42);
+        int boxCount = Math.max(1, itemCount / itemsPerBox);
+        for (int b = 0; b < boxCount; b++) {
+            Box box = new Box(UUID.randomUUID().toString(), SyntheticData.ROOMS[b % SyntheticData.ROOMS.length],
+                SyntheticData.ROOMS[(b + 3) % SyntheticData.ROOMS.length], null);
+            box.setBoxNumber(b + 1);
+            box = boxRepository.save(box);
+            if (b == 0) {
+                boxUuid = box.getUuid();
+            }
+            List<Item> items = new ArrayList<>(itemsPerBox);
+            for (int i = 0; i < itemsPerBox; i++) {
+                Item item = new Item(box, SyntheticData.itemName(random));
+                item.setImageToken(UUID.randomUUID().toString());
+                items.add(item);
+            }
+            itemRepository.saveAll(items);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<ItemResponseDTO> searchAllBoxes() {
+        return itemService.searchItems(query, null);
+    }
+
+    @Benchmark
+    public List<ItemResponseDTO> searchSingleBox() {
+        return itemService.searchItems(query, boxUuid);
+    }
+}
@@ -0,0 +1,68 @@
+package com.boxcopilot.backend.benchmark;
+
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.mapper.BoxMapper;
+import com.boxcopilot.backend.mapper.ItemImageUrls;
+import com.boxcopilot.backend.mapper.ItemMapper;
+import com.boxcopilot.backend.perf.SyntheticData;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Mapping cost of the DTO conversions used by every box and item endpoint.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperBenchmark {
+
+    @Param({"10", "100"})
+    private int itemsPerBox;
+
+    private BoxMapper boxMapper;
+    private ItemMapper itemMapper;
+    private Box box;
+    private Item item;
+
+    @Setup
+    public void setUp() {
+        itemMapper = new ItemMapper(new ItemImageUrls(new SimpleMeterRegistry(), "", 100_000));
+        boxMapper = new BoxMapper(itemMapper);
+        box = SyntheticData.box(1, itemsPerBox, new Random(42));
+        item = box.getItems().get(0);
+    }
+
+    @Benchmark
+    public BoxResponseDTO boxToResponseDTO() {
+        return boxMapper.toResponseDTO(box);
+    }
+
+    @Benchmark
+    public BoxResponseDTO boxToSummaryResponseDTO() {
+        return boxMapper.toSummaryResponseDTO(box);
+    }
+
+    @Benchmark
+    public ItemResponseDTO itemToResponseDTO() {
+        return itemMapper.toResponseDTO(item);
+    }
+}
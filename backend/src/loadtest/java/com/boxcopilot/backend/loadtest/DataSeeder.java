@@ -0,0 +1,84 @@
+package com.boxcopilot.backend.loadtest;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.perf.SyntheticData;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import org.springframework.mock.web.MockMultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Seeds boxes, items and images through the service layer, so box numbers, image tokens and
+ * stored image files are produced exactly as in production.
+ */
+class DataSeeder {
+
+    /** Phone photos are downscaled on upload anyway; a 2 MP source keeps seeding fast. */
+    private static final int PHOTO_WIDTH = 1600;
+    private static final int PHOTO_HEIGHT = 1200;
+
+    private final BoxService boxService;
+    private final ItemService itemService;
+
+    DataSeeder(BoxService boxService, ItemService itemService) {
+        this.boxService = boxService;
+        this.itemService = itemService;
+    }
+
+    /**
+     * Creates the given number of boxes and items (items spread evenly across boxes) and uploads
+     * images for the first {@code imageCount} items.
+     */
+    SeededData seed(int boxCount, int itemCount, int imageCount) {
+        Random random = new Random(42);
+        List<BoxResponseDTO> boxes = new ArrayList<>(boxCount);
+        for (int i = 0; i < boxCount; i++) {
+            BoxRequestDTO request = new BoxRequestDTO(
+                SyntheticData.ROOMS[random.nextInt(SyntheticData.ROOMS.length)],
+                SyntheticData.ROOMS[random.nextInt(SyntheticData.ROOMS.length)],
+                "Umzugskarton " + (i + 1));
+            request.setIsFragile(random.nextInt(10) == 0);
+            boxes.add(boxService.createBox(request));
+        }
+
+        List<ItemResponseDTO> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            Long boxId = boxes.get(i % boxCount).getId();
+            items.add(itemService.createItem(new ItemRequestDTO(SyntheticData.itemName(random), boxId)));
+        }
+
+        // A handful of distinct photos is enough; every upload is decoded and resized again anyway
+        List<byte[]> photos = new ArrayList<>();
+        for (int i = 0; i < Math.min(imageCount, 5); i++) {
+            photos.add(SyntheticData.photo(PHOTO_WIDTH, PHOTO_HEIGHT, i));
+        }
+        List<String> thumbnailPaths = new ArrayList<>(imageCount);
+        for (int i = 0; i < Math.min(imageCount, items.size()); i++) {
+            MockMultipartFile file = new MockMultipartFile(
+                "file", "photo.jpg", "image/jpeg", photos.get(i % photos.size()));
+            ItemResponseDTO withImage = itemService.uploadImage(items.get(i).getId(), file);
+            thumbnailPaths.add(withImage.getImageUrl());
+        }
+
+        return new SeededData(
+            boxes.stream().map(BoxResponseDTO::getUuid).toList(),
+            thumbnailPaths,
+            List.of(SyntheticData.ITEM_WORDS));
+    }
+
+    /**
+     * Identifiers the load test draws its requests from.
+     *
+     * @param boxUuids UUIDs for the public preview
+     * @param thumbnailPaths image URLs as returned by the API (relative, with cache-busting query)
+     * @param searchTerms item name fragments for the search endpoint
+     */
+    record SeededData(List<String> boxUuids, List<String> thumbnailPaths, List<String> searchTerms) {
+    }
+}
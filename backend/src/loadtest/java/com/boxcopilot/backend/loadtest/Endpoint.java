@@ -0,0 +1,79 @@
+package com.boxcopilot.backend.loadtest;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Request types of the load mix with their relative weights.
+ * The default mix models moving day: helpers scanning QR codes (public preview + thumbnails)
+ * dominate, while packers list boxes, open them and search for items.
+ */
+enum Endpoint {
+
+    LIST_BOXES(20) {
+        @Override
+        String path(DataSeeder.SeededData data, Random random) {
+            return "/api/v1/boxes";
+        }
+    },
+    GET_BOX(10) {
+        @Override
+        String path(DataSeeder.SeededData data, Random random) {
+            return "/api/v1/boxes/" + pick(data.boxUuids(), random);
+        }
+    },
+    BOX_ITEMS(5) {
+        @Override
+        String path(DataSeeder.SeededData data, Random random) {
+            return "/api/v1/items/box/" + pick(data.boxUuids(), random);
+        }
+    },
+    SEARCH_ITEMS(15) {
+        @Override
+        String path(DataSeeder.SeededData data, Random random) {
+            String term = pick(data.searchTerms(), random).toLowerCase();
+            return "/api/v1/items/search?q=" + URLEncoder.encode(term, StandardCharsets.UTF_8);
+        }
+    },
+    PUBLIC_PREVIEW(35) {
+        @Override
+        String path(DataSeeder.SeededData data, Random random) {
+            return "/api/v1/public/" + pick(data.boxUuids(), random);
+        }
+    },
+    THUMBNAIL(25) {
+        @Override
+        String path(DataSeeder.SeededData data, Random random) {
+            return pick(data.thumbnailPaths(), random);
+        }
+    },
+    LARGE_IMAGE(5) {
+        @Override
+        String path(DataSeeder.SeededData data, Random random) {
+            return pick(data.thumbnailPaths(), random).replace("/image", "/image/large");
+        }
+    };
+
+    private final int weight;
+
+    Endpoint(int weight) {
+        this.weight = weight;
+    }
+
+    int weight() {
+        return weight;
+    }
+
+    abstract String path(DataSeeder.SeededData data, Random random);
+
+    /** Image endpoints are skipped when no images were seeded. */
+    boolean isAvailable(DataSeeder.SeededData data) {
+        return (this != THUMBNAIL && this != LARGE_IMAGE) || !data.thumbnailPaths().isEmpty();
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
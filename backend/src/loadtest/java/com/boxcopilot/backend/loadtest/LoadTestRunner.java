@@ -0,0 +1,288 @@
+package com.boxcopilot.backend.loadtest;
+
+import com.boxcopilot.backend.BoxCopilotApplication;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.env.YamlPropertySourceLoader;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.env.EnumerablePropertySource;
+import org.springframework.core.env.PropertySource;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * HTTP load test against the backend on the test profile.
+ * Boots the application in-process on a random port, seeds data through the service layer and then
+ * lets a fixed number of virtual users (closed model, no think time by default) issue the request mix
+ * defined in {@link Endpoint}. Samples taken during the warm-up period are discarded.
+ *
+ * Run with: mvn -Ploadtest -DskipTests verify -Dloadtest.users=100 -Dloadtest.durationSeconds=120
+ * Settings (system properties): loadtest.boxes, loadtest.items, loadtest.images, loadtest.users,
+ * loadtest.warmupSeconds, loadtest.durationSeconds, loadtest.thinkTimeMillis, loadtest.report
+ *
+ * Connection pool sizing: loadtest.poolSizes=2,5,10,20 repeats the whole run (fresh application and data)
+ * once per Hikari maximum pool size and prints the throughput of each. Pool effects only show against a real
+ * server, so point loadtest.jdbcUrl (plus loadtest.jdbcUser and loadtest.jdbcPassword) at a scratch PostgreSQL
+ * database; the in-memory H2 default has no network round trips to wait for. Every run seeds its own database
+ * (H2) or schema (PostgreSQL, loadtest_<timestamp>_<run>, left behind for inspection), so runs see the same data.
+ * Against PostgreSQL the pool and driver settings of application-prod.yml apply, including their APP_DB_* overrides.
+ */
+public class LoadTestRunner {
+
+    private final int boxes = Integer.getInteger("loadtest.boxes", 200);
+    private final int items = Integer.getInteger("loadtest.items", 4000);
+    private final int images = Integer.getInteger("loadtest.images", 100);
+    private final int users = Integer.getInteger("loadtest.users", 50);
+    private final int warmupSeconds = Integer.getInteger("loadtest.warmupSeconds", 10);
+    private final int durationSeconds = Integer.getInteger("loadtest.durationSeconds", 60);
+    private final int thinkTimeMillis = Integer.getInteger("loadtest.thinkTimeMillis", 0);
+    private final Path reportFile = Path.of(System.getProperty("loadtest.report", "target/loadtest-report.json"));
+    private final List<Integer> poolSizes = Arrays.stream(System.getProperty("loadtest.poolSizes", "").split(","))
+        .map(String::trim)
+        .filter(size -> !size.isEmpty())
+        .map(Integer::valueOf)
+        .toList();
+    private final String jdbcUrl = System.getProperty("loadtest.jdbcUrl", "");
+    private final String jdbcUser = System.getProperty("loadtest.jdbcUser", "");
+    private final String jdbcPassword = System.getProperty("loadtest.jdbcPassword", "");
+
+    public static void main(String[] args) throws Exception {
+        new LoadTestRunner().run();
+    }
+
+    void run() throws Exception {
+        // Items are spread across the boxes and the box endpoints pick from them, so there must be at least one
+        if (boxes < 1) {
+            throw new IllegalArgumentException("loadtest.boxes must be at least 1, was " + boxes);
+        }
+        if (poolSizes.isEmpty()) {
+            writeReport(runOnce(null));
+            return;
+        }
+        List<Map<String, Object>> runs = new ArrayList<>();
+        for (int poolSize : poolSizes) {
+            System.out.printf("%n=== Connection pool size %d ===%n", poolSize);
+            runs.add(runOnce(poolSize));
+        }
+        System.out.printf("%n%-10s %10s %9s %9s %9s%n", "pool size", "req/s", "p50 ms", "p99 ms", "errors");
+        for (Map<String, Object> run : runs) {
+            @SuppressWarnings("unchecked")
+            Map<String, Object> total = (Map<String, Object>) run.get("total");
+            System.out.printf("%-10s %10.1f %9.2f %9.2f %9d%n", run.get("poolSize"), total.get("throughputPerSecond"),
+                total.get("p50Millis"), total.get("p99Millis"), total.get("errors"));
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("runs", runs);
+        writeReport(report);
+    }
+
+    /**
+     * Boots the application, seeds it and drives the load; a null pool size keeps the configured pool.
+     */
+    private Map<String, Object> runOnce(Integer poolSize) throws Exception {
+        String database = "loadtest_" + System.currentTimeMillis() + "_" + (poolSize != null ? "pool" + poolSize : "default");
+        Path imageDirectory = Files.createTempDirectory("boxcopilot-loadtest-images");
+        // Command line arguments, so they take precedence over application.yml and application-test.yml
+        List<String> args = new ArrayList<>(List.of(
+            "--spring.profiles.active=test",
+            "--server.port=0",
+            "--spring.jpa.show-sql=false",
+            "--logging.level.root=WARN",
+            "--logging.level.com.boxcopilot.backend=WARN",
+            "--app.image.storage.path=" + imageDirectory));
+        Map<String, Object> hikari = new LinkedHashMap<>();
+        if (jdbcUrl.isEmpty()) {
+            args.add("--spring.datasource.url=jdbc:h2:mem:" + database + ";DB_CLOSE_DELAY=-1");
+        } else {
+            // Timeouts and PgJDBC statement caching as in production; the test profile alone uses Hikari defaults
+            hikari.putAll(productionHikariSettings());
+            args.addAll(List.of(
+                "--spring.datasource.url=" + jdbcUrl,
+                "--spring.datasource.username=" + jdbcUser,
+                "--spring.datasource.password=" + jdbcPassword,
+                "--spring.datasource.driver-class-name=org.postgresql.Driver",
+                "--spring.jpa.database-platform=org.hibernate.dialect.PostgreSQLDialect",
+                // Flyway creates the schema; pooled connections use it as search path
+                "--spring.flyway.schemas=" + database,
+                "--spring.datasource.hikari.schema=" + database));
+        }
+        if (poolSize != null) {
+            // Fixed-size pool, as in production
+            hikari.put("spring.datasource.hikari.maximum-pool-size", poolSize);
+            hikari.put("spring.datasource.hikari.minimum-idle", poolSize);
+        }
+        // One argument per key: repeated arguments would be joined into a list value
+        hikari.forEach((name, value) -> args.add("--" + name + "=" + value));
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BoxCopilotApplication.class)
+                .run(args.toArray(String[]::new))) {
+
+            System.out.printf("Seeding %d boxes, %d items, %d images...%n", boxes, items, images);
+            long seedStart = System.nanoTime();
+            DataSeeder.SeededData data = new DataSeeder(context.getBean(BoxService.class),
+                context.getBean(ItemService.class)).seed(boxes, items, images);
+            System.out.printf("Seeded in %.1f s%n", (System.nanoTime() - seedStart) / 1e9);
+
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            Map<Endpoint, LatencyRecorder> results = drive(baseUrl, data);
+            Map<String, Object> report = report(results);
+            report.put("poolSize", poolSize != null
+                ? poolSize
+                : context.getEnvironment().getProperty("spring.datasource.hikari.maximum-pool-size", "default"));
+            return report;
+        }
+    }
+
+    private Map<Endpoint, LatencyRecorder> drive(String baseUrl, DataSeeder.SeededData data) throws Exception {
+        List<Endpoint> mix = new ArrayList<>();
+        for (Endpoint endpoint : Endpoint.values()) {
+            if (endpoint.isAvailable(data)) {
+                for (int i = 0; i < endpoint.weight(); i++) {
+                    mix.add(endpoint);
+                }
+            }
+        }
+
+        HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+        long measureFrom = System.nanoTime() + Duration.ofSeconds(warmupSeconds).toNanos();
+        long measureUntil = measureFrom + Duration.ofSeconds(durationSeconds).toNanos();
+        System.out.printf("Running %d users: %d s warm-up, %d s measurement against %s%n",
+            users, warmupSeconds, durationSeconds, baseUrl);
+
+        List<Future<Map<Endpoint, LatencyRecorder>>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int u = 0; u < users; u++) {
+                Random random = new Random(u);
+                futures.add(executor.submit(() -> virtualUser(client, baseUrl, data, mix, random, measureFrom, measureUntil)));
+            }
+        }
+
+        Map<Endpoint, LatencyRecorder> merged = new EnumMap<>(Endpoint.class);
+        for (Future<Map<Endpoint, LatencyRecorder>> future : futures) {
+            future.get().forEach((endpoint, recorder) ->
+                merged.computeIfAbsent(endpoint, e -> new LatencyRecorder()).merge(recorder));
+        }
+        return merged;
+    }
+
+    private Map<Endpoint, LatencyRecorder> virtualUser(HttpClient client, String baseUrl, DataSeeder.SeededData data,
+                                                       List<Endpoint> mix, Random random,
+                                                       long measureFrom, long measureUntil) throws InterruptedException {
+        Map<Endpoint, LatencyRecorder> recorders = new EnumMap<>(Endpoint.class);
+        while (System.nanoTime() < measureUntil) {
+            Endpoint endpoint = mix.get(random.nextInt(mix.size()));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + endpoint.path(data, random)))
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+            long start = System.nanoTime();
+            boolean success;
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                success = response.statusCode() < 400;
+            } catch (IOException e) {
+                success = false;
+            }
+            long end = System.nanoTime();
+            if (start >= measureFrom && end <= measureUntil) {
+                recorders.computeIfAbsent(endpoint, e -> new LatencyRecorder()).record(end - start, success);
+            }
+            if (thinkTimeMillis > 0) {
+                Thread.sleep(thinkTimeMillis);
+            }
+        }
+        return recorders;
+    }
+
+    /**
+     * The spring.datasource.hikari.* entries of application-prod.yml. Placeholders are kept, so APP_DB_* variables
+     * apply as in production.
+     */
+    private static Map<String, Object> productionHikariSettings() throws IOException {
+        Map<String, Object> settings = new LinkedHashMap<>();
+        for (PropertySource<?> source : new YamlPropertySourceLoader()
+                .load("application-prod", new ClassPathResource("application-prod.yml"))) {
+            if (source instanceof EnumerablePropertySource<?> properties) {
+                for (String name : properties.getPropertyNames()) {
+                    if (name.startsWith("spring.datasource.hikari.")) {
+                        settings.put(name, properties.getProperty(name));
+                    }
+                }
+            }
+        }
+        return settings;
+    }
+
+    private Map<String, Object> report(Map<Endpoint, LatencyRecorder> results) {
+        LatencyRecorder total = new LatencyRecorder();
+        Map<String, Object> endpoints = new LinkedHashMap<>();
+        System.out.printf("%n%-16s %9s %7s %10s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        for (Map.Entry<Endpoint, LatencyRecorder> entry : results.entrySet()) {
+            endpoints.put(entry.getKey().name(), summarize(entry.getKey().name(), entry.getValue()));
+            total.merge(entry.getValue());
+        }
+        Map<String, Object> overall = summarize("TOTAL", total);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("dataset", Map.of("boxes", boxes, "items", items, "images", images));
+        report.put("users", users);
+        report.put("warmupSeconds", warmupSeconds);
+        report.put("durationSeconds", durationSeconds);
+        report.put("thinkTimeMillis", thinkTimeMillis);
+        report.put("javaVersion", Runtime.version().toString());
+        report.put("availableProcessors", Runtime.getRuntime().availableProcessors());
+        report.put("total", overall);
+        report.put("endpoints", endpoints);
+        return report;
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        Files.createDirectories(reportFile.toAbsolutePath().getParent());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(reportFile.toFile(), report);
+        System.out.printf("%nReport written to %s%n", reportFile.toAbsolutePath());
+    }
+
+    private Map<String, Object> summarize(String name, LatencyRecorder recorder) {
+        double throughput = recorder.count() / (double) durationSeconds;
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("requests", recorder.count());
+        summary.put("errors", recorder.errors());
+        summary.put("throughputPerSecond", round(throughput));
+        summary.put("p50Millis", round(recorder.percentileMillis(50)));
+        summary.put("p90Millis", round(recorder.percentileMillis(90)));
+        summary.put("p99Millis", round(recorder.percentileMillis(99)));
+        summary.put("maxMillis", round(recorder.percentileMillis(100)));
+        System.out.printf("%-16s %9d %7d %10.1f %9.2f %9.2f %9.2f %9.2f%n", name, recorder.count(), recorder.errors(),
+            throughput, recorder.percentileMillis(50), recorder.percentileMillis(90),
+            recorder.percentileMillis(99), recorder.percentileMillis(100));
+        return summary;
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -0,0 +1,15 @@
+package com.boxcopilot.backend.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Async and @Scheduled methods. They run on Spring Boot's task executor and scheduler, which use
+ * virtual threads when spring.threads.virtual.enabled=true (APP_VIRTUAL_THREADS) and platform threads otherwise.
+ */
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfiguration {
+}
@@ -3,9 +3,10 @@ package com.boxcopilot.backend.config;
 import com.boxcopilot.backend.domain.Box;
 import com.boxcopilot.backend.repository.BoxRepository;
 import com.boxcopilot.backend.service.BoxNumberService;
-import jakarta.annotation.PostConstruct;
+import com.boxcopilot.backend.service.InventoryChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -14,7 +15,8 @@ import java.util.List;
 
 /**
  * Handles migration of existing boxes to the new box numbering system.
- * Runs once on application startup to assign box numbers to any boxes that don't have one.
+ * Runs once at startup, before readiness (see StartupMaintenanceRunner), to assign box numbers
+ * to any boxes that don't have one.
  */
 @Configuration
 public class BoxNumberMigration {
@@ -24,14 +26,16 @@ public class BoxNumberMigration {
     private final BoxRepository boxRepository;
     private final BoxNumberService boxNumberService;
     private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BoxNumberMigration(BoxRepository boxRepository, BoxNumberService boxNumberService, TransactionTemplate transactionTemplate) {
+    public BoxNumberMigration(BoxRepository boxRepository, BoxNumberService boxNumberService, TransactionTemplate transactionTemplate,
+                              ApplicationEventPublisher eventPublisher) {
         this.boxRepository = boxRepository;
         this.boxNumberService = boxNumberService;
         this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
-    @PostConstruct
     public void migrateExistingBoxes() {
         transactionTemplate.execute(status -> {
             performMigration();
@@ -73,6 +77,9 @@ public class BoxNumberMigration {
             boxRepository.save(box);
             log.debug("Assigned box number {} to box ID {}", next, box.getId());
         }
+        eventPublisher.publishEvent(InventoryChangedEvent.boxes(boxesWithoutNumbers.stream()
+            .map(Box::getUuid)
+            .toList()));
 
         log.info("Box number migration completed. Assigned {} numbers", boxesWithoutNumbers.size());
     }
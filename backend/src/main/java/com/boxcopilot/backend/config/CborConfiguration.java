@@ -0,0 +1,23 @@
+package com.boxcopilot.backend.config;
+
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+/**
+ * Opt-in CBOR representation of the API: clients that send Accept: application/cbor get the same documents
+ * as binary CBOR, which is smaller and cheaper to parse than JSON; everyone else keeps getting JSON.
+ * The converter is built from Spring Boot's Jackson builder, so both formats share the spring.jackson settings
+ * (e.g. ISO dates) and serialize the DTOs identically.
+ */
+@Configuration
+public class CborConfiguration {
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(Jackson2ObjectMapperBuilder builder) {
+        // The builder bean is prototype-scoped, so switching its factory does not affect the JSON ObjectMapper
+        return new MappingJackson2CborHttpMessageConverter(builder.factory(new CBORFactory()).build());
+    }
+}
@@ -0,0 +1,39 @@
+package com.boxcopilot.backend.config;
+
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * Wraps the application DataSource in a datasource-proxy ProxyDataSource, so every JDBC statement
+ * (Hibernate, Flyway, Spring Session) passes through the registered {@link QueryExecutionListener} beans;
+ * {@link MethodExecutionListener} beans additionally see connection and result set calls.
+ * The proxy unwraps to the pool, so the HikariCP metrics keep working.
+ */
+@Configuration
+public class DataSourceProxyConfiguration {
+
+    @Bean
+    static BeanPostProcessor dataSourceProxyPostProcessor(ObjectProvider<QueryExecutionListener> listeners,
+                                                          ObjectProvider<MethodExecutionListener> methodListeners) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                ProxyDataSourceBuilder builder = ProxyDataSourceBuilder.create(dataSource).name(beanName);
+                listeners.orderedStream().forEach(builder::listener);
+                methodListeners.orderedStream().forEach(builder::methodListener);
+                return builder.build();
+            }
+        };
+    }
+}
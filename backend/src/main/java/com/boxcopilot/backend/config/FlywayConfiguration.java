@@ -0,0 +1,18 @@
+package com.boxcopilot.backend.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the Java-based Flyway migrations. They are passed explicitly instead of being found by
+ * classpath scanning, which also works in the native image.
+ */
+@Configuration
+public class FlywayConfiguration {
+
+    @Bean
+    FlywayConfigurationCustomizer javaMigrations() {
+        return configuration -> configuration.javaMigrations(new ItemIdSequenceMigration());
+    }
+}
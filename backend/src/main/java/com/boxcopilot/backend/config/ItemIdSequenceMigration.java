@@ -0,0 +1,57 @@
+package com.boxcopilot.backend.config;
+
+import com.boxcopilot.backend.domain.Item;
+import org.flywaydb.core.api.MigrationVersion;
+import org.flywaydb.core.api.migration.Context;
+import org.flywaydb.core.api.migration.JavaMigration;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Flyway migration V15: creates the sequence behind {@link Item} ids, so Hibernate can assign ids
+ * before inserting and batch the inserts (IDENTITY columns disable JDBC insert batching).
+ * Written in Java because the start value depends on the existing ids, and neither H2 nor PostgreSQL
+ * accept a subquery there in a way both understand. Registered by {@link FlywayConfiguration}.
+ */
+public class ItemIdSequenceMigration implements JavaMigration {
+
+    // Fixed as applied; Item.ID_ALLOCATION_SIZE must equal it. A different increment needs a new migration
+    private static final int INCREMENT = 100;
+
+    @Override
+    public MigrationVersion getVersion() {
+        return MigrationVersion.fromVersion("15");
+    }
+
+    @Override
+    public String getDescription() {
+        return "add item id sequence";
+    }
+
+    @Override
+    public Integer getChecksum() {
+        return null;
+    }
+
+    @Override
+    public boolean canExecuteInTransaction() {
+        return true;
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            long maxId;
+            try (ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM items")) {
+                result.next();
+                maxId = result.getLong(1);
+            }
+            // The pooled optimizer treats each sequence value as the upper end of a block of ids,
+            // so the first block starts right after the highest existing id
+            long startWith = maxId + INCREMENT;
+            statement.execute("CREATE SEQUENCE items_seq START WITH " + startWith
+                + " INCREMENT BY " + INCREMENT);
+        }
+    }
+}
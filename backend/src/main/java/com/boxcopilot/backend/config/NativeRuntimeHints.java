@@ -0,0 +1,116 @@
+package com.boxcopilot.backend.config;
+
+import com.boxcopilot.backend.domain.AuthProvider;
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.BoxNumberPool;
+import com.boxcopilot.backend.domain.InventoryVersion;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.domain.MagicLoginToken;
+import com.boxcopilot.backend.domain.Role;
+import com.boxcopilot.backend.domain.Tombstone;
+import com.boxcopilot.backend.domain.User;
+import com.boxcopilot.backend.service.CustomUserDetailsService;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.RuntimeHintsRegistrar;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.security.oauth2.client.authentication.OAuth2AuthenticationToken;
+import org.springframework.security.oauth2.core.oidc.OidcIdToken;
+import org.springframework.security.oauth2.core.oidc.OidcUserInfo;
+import org.springframework.security.oauth2.core.oidc.user.DefaultOidcUser;
+import org.springframework.security.oauth2.core.oidc.user.OidcUserAuthority;
+import org.springframework.security.oauth2.core.user.OAuth2UserAuthority;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
+import org.springframework.security.web.savedrequest.DefaultSavedRequest;
+import org.springframework.security.web.savedrequest.SavedCookie;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * Runtime hints for the GraalVM native image (mvn -Pnative native:compile).
+ * Covers what the AOT engine cannot infer on its own:
+ * - JPA entities and their enums (Hibernate reads fields and constructors reflectively)
+ * - Java Flyway migrations (Flyway reads their version and description reflectively)
+ * - ImageIO service providers used by Thumbnailator for JPEG/PNG decoding and JPEG encoding
+ * - Types stored in the HTTP session, which Spring Session serializes with JDK serialization (Redis in prod, JDBC in dev)
+ */
+public class NativeRuntimeHints implements RuntimeHintsRegistrar {
+
+    static final List<Class<?>> ENTITY_TYPES = List.of(
+        Box.class, Item.class, User.class, MagicLoginToken.class, BoxNumberPool.class, InventoryVersion.class,
+        Tombstone.class, Role.class, AuthProvider.class, Tombstone.EntityType.class);
+
+    static final List<Class<?>> JAVA_MIGRATIONS = List.of(ItemIdSequenceMigration.class);
+
+    static final List<String> IMAGE_IO_PROVIDERS = List.of(
+        "com.sun.imageio.plugins.jpeg.JPEGImageReaderSpi",
+        "com.sun.imageio.plugins.jpeg.JPEGImageWriterSpi",
+        "com.sun.imageio.plugins.png.PNGImageReaderSpi",
+        "com.sun.imageio.plugins.png.PNGImageWriterSpi");
+
+    static final List<Class<? extends Serializable>> SESSION_TYPES = List.of(
+        SecurityContextImpl.class,
+        UsernamePasswordAuthenticationToken.class,
+        OAuth2AuthenticationToken.class,
+        DefaultOidcUser.class,
+        OidcIdToken.class,
+        OidcUserInfo.class,
+        OidcUserAuthority.class,
+        OAuth2UserAuthority.class,
+        SimpleGrantedAuthority.class,
+        WebAuthenticationDetails.class,
+        DefaultSavedRequest.class,
+        SavedCookie.class,
+        CustomUserDetailsService.CustomUserPrincipal.class,
+        User.class,
+        Role.class,
+        AuthProvider.class,
+        LocalDateTime.class,
+        Instant.class,
+        ArrayList.class,
+        HashSet.class,
+        LinkedHashMap.class,
+        TreeMap.class);
+
+    @Override
+    public void registerHints(RuntimeHints hints, ClassLoader classLoader) {
+        for (Class<?> type : ENTITY_TYPES) {
+            hints.reflection().registerType(type,
+                MemberCategory.DECLARED_FIELDS,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_DECLARED_METHODS);
+        }
+
+        for (String provider : IMAGE_IO_PROVIDERS) {
+            hints.reflection().registerType(TypeReference.of(provider), MemberCategory.INVOKE_PUBLIC_CONSTRUCTORS);
+        }
+        hints.resources().registerPattern("META-INF/services/javax.imageio.spi.*");
+
+        for (Class<? extends Serializable> type : SESSION_TYPES) {
+            hints.serialization().registerType(type);
+        }
+        // Collection wrappers used inside Spring Security's authentication tokens
+        hints.serialization().registerType(TypeReference.of("java.util.Collections$UnmodifiableSet"));
+        hints.serialization().registerType(TypeReference.of("java.util.Collections$UnmodifiableRandomAccessList"));
+        hints.serialization().registerType(TypeReference.of("java.util.Collections$UnmodifiableMap"));
+
+        hints.resources().registerPattern("db/migration/*.sql");
+        for (Class<?> migration : JAVA_MIGRATIONS) {
+            hints.reflection().registerType(migration,
+                MemberCategory.INVOKE_DECLARED_CONSTRUCTORS,
+                MemberCategory.INVOKE_PUBLIC_METHODS);
+        }
+        // Caffeine JCache regions of the Hibernate second-level cache
+        hints.resources().registerPattern("hibernate-jcache.conf");
+    }
+}
@@ -16,6 +16,8 @@ import org.springframework.security.web.authentication.AuthenticationFailureHand
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.security.web.authentication.logout.LogoutSuccessHandler;
 import org.springframework.security.web.csrf.CookieCsrfTokenRepository;
+import org.springframework.security.web.servlet.util.matcher.PathPatternRequestMatcher;
+import org.springframework.security.web.util.matcher.AndRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -42,6 +44,10 @@ public class OAuth2SecurityConfig {
     @Value("${nextcloud.logout-url}")
     private String nextcloudLogoutUrl;
 
+    // Only set when actuator runs on its own port (prod); -1 = same port as the application
+    @Value("${management.server.port:-1}")
+    private int managementPort;
+
     private final CustomUserDetailsService customUserDetailsService;
     private CustomOidcUserService customOidcUserService; // Set via setter to avoid circular dependency
 
@@ -49,6 +55,10 @@ public class OAuth2SecurityConfig {
         this.customUserDetailsService = customUserDetailsService;
     }
     
+    private boolean isManagementPortRequest(HttpServletRequest request) {
+        return managementPort > 0 && request.getLocalPort() == managementPort;
+    }
+
     /**
      * Set CustomOidcUserService via setter to avoid circular dependency
      * Called by ServiceConfiguration after all beans are created
@@ -76,6 +86,12 @@ public class OAuth2SecurityConfig {
             .authorizeHttpRequests(auth -> auth
                 // Admin endpoints - require ADMIN role
                 .requestMatchers("/api/v1/admin/**").hasRole("ADMIN")
+                // Actuator: health probes are public; the Prometheus scrape only on a separate management port
+                // (prod), which is not routed publicly. Everything else (e.g. startup timeline) is admin-only
+                .requestMatchers("/actuator/health/**").permitAll()
+                .requestMatchers(new AndRequestMatcher(this::isManagementPortRequest,
+                    PathPatternRequestMatcher.withDefaults().matcher("/actuator/prometheus"))).permitAll()
+                .requestMatchers("/actuator/**").hasRole("ADMIN")
                 // Public endpoints - no authentication required
                 .requestMatchers("/api/public/**", "/api/v1/public/**").permitAll()
                 .requestMatchers("/api/v1/public/items/**").permitAll()
@@ -1,11 +1,17 @@
 package com.boxcopilot.backend.config;
 
+import io.lettuce.core.resource.ClientResources;
+import io.lettuce.core.tracing.MicrometerTracing;
+import io.micrometer.observation.ObservationRegistry;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.data.redis.ClientResourcesBuilderCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.session.data.redis.config.annotation.web.http.EnableRedisHttpSession;
 
 @Configuration
@@ -19,9 +25,31 @@ public class RedisConfig {
     @Value("${spring.data.redis.port}")
     private int redisPort;
 
+    /**
+     * Traces Redis commands (session load/save) as spans of the request that issued them.
+     */
     @Bean
-    LettuceConnectionFactory redisConnectionFactory() {
+    ClientResourcesBuilderCustomizer redisTracingCustomizer(ObservationRegistry observationRegistry) {
+        return builder -> builder.tracing(new MicrometerTracing(observationRegistry, "boxcopilot-redis"));
+    }
+
+    // Uses Spring Boot's ClientResources, so the tracing customizer and Lettuce command metrics apply
+    @Bean
+    LettuceConnectionFactory redisConnectionFactory(ClientResources clientResources) {
         RedisStandaloneConfiguration cfg = new RedisStandaloneConfiguration(redisHost, redisPort);
-        return new LettuceConnectionFactory(cfg);
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+            .clientResources(clientResources)
+            .build();
+        return new LettuceConnectionFactory(cfg, clientConfiguration);
+    }
+
+    /**
+     * Subscriptions for pub/sub channels, e.g. inventory changes fanned out to every replica.
+     */
+    @Bean
+    RedisMessageListenerContainer redisMessageListenerContainer(LettuceConnectionFactory connectionFactory) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        return container;
     }
 }
@@ -0,0 +1,69 @@
+package com.boxcopilot.backend.config;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wraps calls to the application's Spring Data repositories in boxcopilot.repository observations,
+ * so traces show which repository method issued the JDBC spans below it.
+ */
+@Aspect
+@Component
+public class RepositoryObservationAspect {
+
+    private static final String REPOSITORY_PACKAGE = "com.boxcopilot.backend.repository";
+
+    private final ObservationRegistry observationRegistry;
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public RepositoryObservationAspect(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
+    // Repository+ also matches inherited CrudRepository methods such as findById
+    @Around("execution(* org.springframework.data.repository.Repository+.*(..)) && target(org.springframework.data.repository.Repository)")
+    public Object observe(ProceedingJoinPoint joinPoint) throws Throwable {
+        String repository = repositoryName(joinPoint.getTarget());
+        if (repository == null) {
+            return joinPoint.proceed();
+        }
+        String method = joinPoint.getSignature().getName();
+        Observation observation = Observation.createNotStarted("boxcopilot.repository", observationRegistry)
+            .contextualName(repository + "#" + method)
+            .lowCardinalityKeyValue("repository", repository)
+            .lowCardinalityKeyValue("method", method)
+            .start();
+        try (Observation.Scope scope = observation.openScope()) {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            observation.error(e);
+            throw e;
+        } finally {
+            observation.stop();
+        }
+    }
+
+    /**
+     * Simple name of the application repository interface behind the proxy, or null for framework repositories.
+     */
+    private String repositoryName(Object target) {
+        // The target is Spring Data's JDK proxy, which implements the repository interface
+        String name = repositoryNames.computeIfAbsent(target.getClass(), type -> {
+            for (Class<?> candidate : ClassUtils.getAllInterfacesForClassAsSet(type)) {
+                if (candidate.getPackageName().equals(REPOSITORY_PACKAGE)) {
+                    return candidate.getSimpleName();
+                }
+            }
+            return "";
+        });
+        return name.isEmpty() ? null : name;
+    }
+}
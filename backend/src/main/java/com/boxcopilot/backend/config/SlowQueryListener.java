@@ -0,0 +1,99 @@
+package com.boxcopilot.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Logs JDBC statements that take at least app.sql.slow-query-threshold, together with their
+ * bind parameter count and the endpoint that issued them, and records them in the
+ * boxcopilot.sql.slow.queries timer. Fast statements only cost a comparison.
+ * Bind parameter values are not logged.
+ */
+@Component
+public class SlowQueryListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SlowQueryListener.class);
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 2000;
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final long thresholdMillis;
+
+    // The MeterRegistry is resolved lazily: listeners are created while the DataSource is being proxied
+    public SlowQueryListener(ObjectProvider<MeterRegistry> meterRegistry,
+                             @Value("${app.sql.slow-query-threshold:500ms}") Duration threshold) {
+        this.meterRegistry = meterRegistry;
+        this.thresholdMillis = threshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsed = execInfo.getElapsedTime();
+        if (thresholdMillis <= 0 || elapsed < thresholdMillis) {
+            return;
+        }
+
+        String method = "none";
+        String endpoint = "none";
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            HttpServletRequest request = servletAttributes.getRequest();
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            method = request.getMethod();
+            endpoint = pattern != null ? pattern.toString() : "UNKNOWN";
+        }
+
+        log.warn("Slow SQL ({} ms, {} bind parameters{}, endpoint {} {}): {}",
+            elapsed, bindParameterCount(queryInfoList),
+            execInfo.isBatch() ? ", batch of " + execInfo.getBatchSize() : "",
+            method, endpoint, sql(queryInfoList));
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            Timer.builder("boxcopilot.sql.slow.queries")
+                .description("JDBC statements slower than app.sql.slow-query-threshold")
+                .tag("method", method)
+                .tag("uri", endpoint)
+                .register(registry)
+                .record(elapsed, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private static int bindParameterCount(List<QueryInfo> queryInfoList) {
+        int count = 0;
+        for (QueryInfo queryInfo : queryInfoList) {
+            for (List<?> parameters : queryInfo.getParametersList()) {
+                count += parameters.size();
+            }
+        }
+        return count;
+    }
+
+    private static String sql(List<QueryInfo> queryInfoList) {
+        String sql = queryInfoList.size() == 1
+            ? queryInfoList.get(0).getQuery()
+            : String.join("; ", queryInfoList.stream().map(QueryInfo::getQuery).toList());
+        return sql.length() > MAX_LOGGED_SQL_LENGTH ? sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "..." : sql;
+    }
+}
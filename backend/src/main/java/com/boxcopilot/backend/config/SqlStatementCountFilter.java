@@ -0,0 +1,84 @@
+package com.boxcopilot.backend.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Counts the SQL statements each request executes, records them as the boxcopilot.http.sql.statements
+ * distribution (tagged with method and URI pattern) and warns when a request exceeds
+ * app.sql.statement-warn-threshold - usually a sign of an N+1 query in a mapper.
+ * Outside prod the count is also returned in the X-SQL-Statement-Count header (see {@link SqlStatementCountHeaderAdvice}).
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class SqlStatementCountFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "X-SQL-Statement-Count";
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementCountFilter.class);
+
+    private final SqlStatementCounter counter;
+    private final MeterRegistry meterRegistry;
+    private final int warnThreshold;
+    private final boolean headerEnabled;
+
+    public SqlStatementCountFilter(SqlStatementCounter counter,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.sql.statement-warn-threshold:20}") int warnThreshold,
+                                   @Value("${app.sql.statement-count-header:false}") boolean headerEnabled) {
+        this.counter = counter;
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+        this.headerEnabled = headerEnabled;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        counter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            int statements = counter.stop();
+            // Responses without a body (204, redirects) are not committed yet and still take the header
+            if (headerEnabled && !response.isCommitted()) {
+                response.setHeader(HEADER, String.valueOf(statements));
+            }
+            record(request, statements);
+        }
+    }
+
+    private void record(HttpServletRequest request, int statements) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : "UNKNOWN";
+        DistributionSummary.builder("boxcopilot.http.sql.statements")
+            .description("JDBC statements executed per HTTP request")
+            .baseUnit("statements")
+            .tag("method", request.getMethod())
+            .tag("uri", uri)
+            .register(meterRegistry)
+            .record(statements);
+        if (warnThreshold > 0 && statements > warnThreshold) {
+            log.warn("{} {} executed {} SQL statements (threshold {}), possible N+1 query",
+                request.getMethod(), uri, statements, warnThreshold);
+        }
+    }
+
+    boolean isHeaderEnabled() {
+        return headerEnabled;
+    }
+}
@@ -0,0 +1,42 @@
+package com.boxcopilot.backend.config;
+
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+/**
+ * Adds the X-SQL-Statement-Count header to responses with a body. The body commits the response
+ * before {@link SqlStatementCountFilter} regains control, so the header is set here, right before
+ * the body is written. Only active when app.sql.statement-count-header is enabled.
+ */
+@ControllerAdvice
+public class SqlStatementCountHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    private final SqlStatementCounter counter;
+    private final SqlStatementCountFilter filter;
+
+    public SqlStatementCountHeaderAdvice(SqlStatementCounter counter, SqlStatementCountFilter filter) {
+        this.counter = counter;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return filter.isHeaderEnabled();
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        int statements = counter.current();
+        if (statements >= 0) {
+            response.getHeaders().set(SqlStatementCountFilter.HEADER, String.valueOf(statements));
+        }
+        return body;
+    }
+}
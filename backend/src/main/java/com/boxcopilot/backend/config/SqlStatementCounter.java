@@ -0,0 +1,52 @@
+package com.boxcopilot.backend.config;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Counts the JDBC statements executed on the current thread between {@link #start()} and {@link #stop()}.
+ * Batched statements count once per round trip. Statements outside a started scope
+ * (startup maintenance, @Async work) are not counted.
+ */
+@Component
+public class SqlStatementCounter implements QueryExecutionListener {
+
+    private final ThreadLocal<int[]> count = new ThreadLocal<>();
+
+    public void start() {
+        count.set(new int[1]);
+    }
+
+    /**
+     * Returns the number of statements executed since {@link #start()}, or -1 if counting is not active.
+     */
+    public int current() {
+        int[] value = count.get();
+        return value != null ? value[0] : -1;
+    }
+
+    /**
+     * Ends the scope and returns its statement count, or -1 if counting was not active.
+     */
+    public int stop() {
+        int current = current();
+        count.remove();
+        return current;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        int[] value = count.get();
+        if (value != null) {
+            value[0]++;
+        }
+    }
+}
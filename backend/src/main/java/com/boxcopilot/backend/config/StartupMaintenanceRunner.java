@@ -0,0 +1,92 @@
+package com.boxcopilot.backend.config;
+
+import com.boxcopilot.backend.service.ItemService;
+import com.boxcopilot.backend.service.UserService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.metrics.ApplicationStartup;
+import org.springframework.core.metrics.StartupStep;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs data-maintenance tasks at startup. Data migrations (image tokens, box numbers) write the same rows as
+ * live requests, e.g. box numbers are also taken by new boxes, so they run as an application runner: after
+ * the context is refreshed but before the application reports readiness. Work that cannot conflict with
+ * requests (the default admin account) runs on the application task executor once the application is ready
+ * (or inline when app.startup.maintenance.background=false, as in tests).
+ * Each task is recorded as a startup step so it shows up in the actuator startup endpoint.
+ */
+@Component
+public class StartupMaintenanceRunner implements ApplicationRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(StartupMaintenanceRunner.class);
+
+    private final UserService userService;
+    private final ItemService itemService;
+    private final BoxNumberMigration boxNumberMigration;
+    private final TaskExecutor taskExecutor;
+    private final ApplicationStartup applicationStartup;
+
+    @Value("${app.startup.maintenance.background:true}")
+    private boolean background;
+
+    public StartupMaintenanceRunner(UserService userService, ItemService itemService,
+                                    BoxNumberMigration boxNumberMigration,
+                                    @Qualifier(TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+                                    TaskExecutor taskExecutor,
+                                    ApplicationStartup applicationStartup) {
+        this.userService = userService;
+        this.itemService = itemService;
+        this.boxNumberMigration = boxNumberMigration;
+        this.taskExecutor = taskExecutor;
+        this.applicationStartup = applicationStartup;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        // Like a failed Flyway migration, a failed data migration stops the startup
+        runTask("image-tokens", itemService::ensureImageTokens, true);
+        runTask("box-numbers", boxNumberMigration::migrateExistingBoxes, true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (background) {
+            log.debug("Scheduling startup maintenance in the background");
+            taskExecutor.execute(this::runBackgroundMaintenance);
+        } else {
+            runBackgroundMaintenance();
+        }
+    }
+
+    void runBackgroundMaintenance() {
+        runTask("default-admin", userService::initializeDefaultAdmin, false);
+    }
+
+    private void runTask(String name, Runnable task, boolean failStartup) {
+        StartupStep step = applicationStartup.start("boxcopilot.maintenance." + name);
+        long start = System.nanoTime();
+        try {
+            task.run();
+            step.tag("outcome", "success");
+        } catch (RuntimeException e) {
+            step.tag("outcome", "failure");
+            if (failStartup) {
+                throw e;
+            }
+            // A failed background task must not take down an application that is already serving traffic
+            log.error("Startup maintenance task '{}' failed", name, e);
+        } finally {
+            step.end();
+            log.debug("Startup maintenance task '{}' took {} ms", name, (System.nanoTime() - start) / 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.boxcopilot.backend.config;
+
+import com.boxcopilot.backend.service.SyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Prunes sync tombstones older than app.sync.tombstone-retention, so the table does not grow without bound.
+ * Runs on every replica; pruning is idempotent, so concurrent runs only repeat each other's work.
+ */
+@Component
+public class TombstoneRetentionJob {
+
+    private static final Logger log = LoggerFactory.getLogger(TombstoneRetentionJob.class);
+
+    private final SyncService syncService;
+    private final Duration retention;
+
+    public TombstoneRetentionJob(SyncService syncService,
+                                 @Value("${app.sync.tombstone-retention:30d}") Duration retention) {
+        this.syncService = syncService;
+        this.retention = retention;
+    }
+
+    @Scheduled(initialDelayString = "${app.sync.tombstone-prune-interval:1h}",
+        fixedDelayString = "${app.sync.tombstone-prune-interval:1h}")
+    public void pruneTombstones() {
+        log.debug("Pruning tombstones older than {}", retention);
+        syncService.pruneTombstones(Instant.now().minus(retention));
+    }
+}
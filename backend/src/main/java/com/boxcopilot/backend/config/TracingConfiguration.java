@@ -0,0 +1,48 @@
+package com.boxcopilot.backend.config;
+
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.tracing.Tracer;
+import net.ttddyy.observation.tracing.ConnectionTracingObservationHandler;
+import net.ttddyy.observation.tracing.DataSourceObservationListener;
+import net.ttddyy.observation.tracing.JdbcObservationDocumentation;
+import net.ttddyy.observation.tracing.QueryTracingObservationHandler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import java.util.EnumSet;
+
+/**
+ * Tracing beyond what Spring Boot instruments out of the box (HTTP server requests, @Observed services,
+ * image processing phases): JDBC connection and query spans through the datasource proxy, and
+ * repository spans via {@link RepositoryObservationAspect}. Redis session commands are traced in {@link RedisConfig}.
+ * Spans are exported over OTLP when management.otlp.tracing.endpoint is set.
+ */
+@Configuration
+public class TracingConfiguration {
+
+    /**
+     * Connection and query observations; result set iteration is left out to keep traces readable.
+     * Bind parameter values are not recorded.
+     */
+    @Bean
+    DataSourceObservationListener dataSourceObservationListener(ObjectProvider<ObservationRegistry> observationRegistry) {
+        DataSourceObservationListener listener = new DataSourceObservationListener(observationRegistry::getObject);
+        listener.setSupportedTypes(EnumSet.of(JdbcObservationDocumentation.CONNECTION, JdbcObservationDocumentation.QUERY));
+        return listener;
+    }
+
+    // Ordered ahead of Spring Boot's default tracing handler, which would otherwise claim the JDBC contexts
+    @Bean
+    @Order(0)
+    ConnectionTracingObservationHandler jdbcConnectionTracingObservationHandler(Tracer tracer) {
+        return new ConnectionTracingObservationHandler(tracer);
+    }
+
+    @Bean
+    @Order(0)
+    QueryTracingObservationHandler jdbcQueryTracingObservationHandler(Tracer tracer) {
+        return new QueryTracingObservationHandler(tracer);
+    }
+}
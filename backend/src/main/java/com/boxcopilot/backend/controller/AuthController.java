@@ -102,7 +102,7 @@ public class AuthController {
                 dto.setAdmin(false);
             }
             
-            log.info("OIDC user {} accessed /me endpoint", preferredUsername);
+            log.debug("OIDC user {} accessed /me endpoint", preferredUsername);
         }
         // Handle local user (form login)
         else if (principal instanceof UserDetails) {
@@ -121,7 +121,7 @@ public class AuthController {
                     true
                 );
                 
-                log.info("Local user {} accessed /me endpoint", user.getUsername());
+                log.debug("Local user {} accessed /me endpoint", user.getUsername());
             } else {
                 UserDetails userDetails = (UserDetails) principal;
                 dto = new UserPrincipalDTO();
@@ -130,7 +130,7 @@ public class AuthController {
                 dto.setAuthenticated(true);
                 dto.setAdmin(false);
                 
-                log.info("User {} accessed /me endpoint", userDetails.getUsername());
+                log.debug("User {} accessed /me endpoint", userDetails.getUsername());
             }
         }
         else {
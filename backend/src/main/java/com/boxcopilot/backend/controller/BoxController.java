@@ -3,16 +3,26 @@ package com.boxcopilot.backend.controller;
 import com.boxcopilot.backend.dto.BoxRequestDTO;
 import com.boxcopilot.backend.dto.BoxResponseDTO;
 import com.boxcopilot.backend.dto.BoxUpdateDTO;
+import com.boxcopilot.backend.dto.BulkBoxDeleteDTO;
+import com.boxcopilot.backend.dto.BulkBoxUpdateDTO;
+import com.boxcopilot.backend.dto.BulkOperationResultDTO;
+import com.boxcopilot.backend.dto.ItemBatchRequestDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
 import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.InventoryVersionService;
+import com.boxcopilot.backend.service.ItemService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 /**
  * REST Controller for Box operations.
@@ -26,32 +36,80 @@ public class BoxController {
     
     private static final Logger log = LoggerFactory.getLogger(BoxController.class);
     private final BoxService boxService;
+    private final InventoryVersionService versionService;
+    private final ItemService itemService;
 
-    public BoxController(BoxService boxService) {
+    public BoxController(BoxService boxService, InventoryVersionService versionService, ItemService itemService) {
         this.boxService = boxService;
+        this.versionService = versionService;
+        this.itemService = itemService;
     }
 
     /**
-     * Lists all boxes.
+     * Lists all boxes. Answers If-None-Match with 304 while the inventory version is unchanged.
      */
     @GetMapping
     public ResponseEntity<List<BoxResponseDTO>> list(
-            @RequestParam(name = "includeItems", defaultValue = "false") boolean includeItems) {
+            @RequestParam(name = "includeItems", defaultValue = "false") boolean includeItems,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.debug("Fetching all boxes (includeItems={})", includeItems);
+        // Read the version before the data: a concurrent change can only make the ETag too old, never too new
+        String eTag = ETags.weak(includeItems ? "boxes-items" : "boxes", versionService.getInventoryVersion());
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
         List<BoxResponseDTO> boxes = boxService.getAllBoxes(includeItems);
-        log.info("Retrieved {} boxes", boxes.size());
-        return ResponseEntity.ok(boxes);
+        log.debug("Retrieved {} boxes", boxes.size());
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+            .header(HttpHeaders.ETAG, eTag)
+            .body(boxes);
     }
 
     /**
-     * Retrieves a box by UUID.
+     * Lists all boxes with only the requested fields, e.g. {@code ?fields=id,boxNumber,currentRoom,itemCount}.
+     * Conditional GET works as for the full list.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> listFields(
+            @RequestParam String fields,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
+        log.debug("Fetching all boxes (fields={})", fields);
+        // The ETag only has to tell versions apart: caches keep one entry per URL, i.e. per fields value
+        String eTag = ETags.weak("boxes-fields", versionService.getInventoryVersion());
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return notModified(eTag);
+        }
+        List<Map<String, Object>> boxes = boxService.getAllBoxFields(fields);
+        log.debug("Retrieved {} boxes", boxes.size());
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+            .header(HttpHeaders.ETAG, eTag)
+            .body(boxes);
+    }
+
+    /**
+     * Retrieves a box by UUID. Answers If-None-Match with 304 while the box version is unchanged.
      */
     @GetMapping("/{uuid}")
-    public ResponseEntity<BoxResponseDTO> getByUuid(@PathVariable String uuid) {
+    public ResponseEntity<BoxResponseDTO> getByUuid(
+            @PathVariable String uuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.debug("Fetching box with UUID: {}", uuid);
+        if (ifNoneMatch != null) {
+            Optional<String> eTag = versionService.getBoxVersion(uuid).map(version -> ETags.weak("box", version));
+            if (eTag.isPresent() && ETags.matches(ifNoneMatch, eTag.get())) {
+                return notModified(eTag.get());
+            }
+        }
+        // Unconditional requests take the version from the loaded box instead of an extra query;
+        // unknown boxes fall through to the service, which reports 404
         BoxResponseDTO box = boxService.getBoxByUuid(uuid);
-        log.info("Retrieved box: {}", box.getUuid());
-        return ResponseEntity.ok(box);
+        log.debug("Retrieved box: {}", box.getUuid());
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CACHE_CONTROL, "private, no-cache")
+            .header(HttpHeaders.ETAG, ETags.weak("box", box.getVersion()))
+            .body(box);
     }
 
     /**
@@ -59,22 +117,29 @@ public class BoxController {
      */
     @PostMapping
     public ResponseEntity<BoxResponseDTO> create(@Valid @RequestBody BoxRequestDTO requestDTO) {
-        log.info("Creating new box in room: {}", requestDTO.getCurrentRoom());
+        log.debug("Creating new box in room: {}", requestDTO.getCurrentRoom());
         BoxResponseDTO createdBox = boxService.createBox(requestDTO);
-        log.info("Box created successfully with UUID: {}", createdBox.getUuid());
+        log.debug("Box created successfully with UUID: {}", createdBox.getUuid());
         return ResponseEntity.status(HttpStatus.CREATED).body(createdBox);
     }
 
     /**
-     * Updates an existing box.
+     * Updates an existing box. With {@code Prefer: return=minimal} the response is 204 without a body,
+     * which spares loading and mapping the box's items.
      */
     @PutMapping("/{id}")
     public ResponseEntity<BoxResponseDTO> update(
             @PathVariable Long id,
-            @Valid @RequestBody BoxUpdateDTO updateDTO) {
-        log.info("Updating box with ID: {}", id);
+            @Valid @RequestBody BoxUpdateDTO updateDTO,
+            @RequestHeader(value = Prefer.HEADER, required = false) String prefer) {
+        log.debug("Updating box with ID: {}", id);
+        if (Prefer.returnMinimal(prefer)) {
+            boxService.applyBoxUpdate(id, updateDTO);
+            log.debug("Box with ID {} updated successfully", id);
+            return Prefer.minimal();
+        }
         BoxResponseDTO updatedBox = boxService.updateBox(id, updateDTO);
-        log.info("Box updated successfully: {}", updatedBox.getUuid());
+        log.debug("Box updated successfully: {}", updatedBox.getUuid());
         return ResponseEntity.ok(updatedBox);
     }
 
@@ -83,9 +148,56 @@ public class BoxController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
-        log.info("Deleting box with ID: {}", id);
+        log.debug("Deleting box with ID: {}", id);
         boxService.deleteBox(id);
-        log.info("Box with ID {} deleted successfully", id);
+        log.debug("Box with ID {} deleted successfully", id);
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Applies the same partial update (e.g. isMovedToTarget or labelPrinted) to multiple boxes.
+     * Returns which boxes were updated and which were not found, not the boxes themselves.
+     */
+    @PutMapping("/update-bulk")
+    public ResponseEntity<BulkOperationResultDTO> updateBoxes(@Valid @RequestBody BulkBoxUpdateDTO bulkUpdateDTO) {
+        log.debug("Bulk updating {} boxes", bulkUpdateDTO.getBoxIds().size());
+        BulkOperationResultDTO result = boxService.updateBoxes(bulkUpdateDTO.getBoxIds(), bulkUpdateDTO.getChanges());
+        log.debug("Bulk update completed: {} updated, {} missing", result.getProcessed(), result.getMissingIds().size());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Deletes multiple boxes with their items. Returns which boxes were deleted and which were not found.
+     */
+    @PostMapping("/delete-bulk")
+    public ResponseEntity<BulkOperationResultDTO> deleteBoxes(@Valid @RequestBody BulkBoxDeleteDTO bulkDeleteDTO) {
+        log.debug("Bulk deleting {} boxes", bulkDeleteDTO.getBoxIds().size());
+        BulkOperationResultDTO result = boxService.deleteBoxes(bulkDeleteDTO.getBoxIds());
+        log.debug("Bulk delete completed: {} deleted, {} missing", result.getProcessed(), result.getMissingIds().size());
+        return ResponseEntity.ok(result);
+    }
+
+    /**
+     * Adds several items to a box in one request.
+     */
+    @PostMapping("/{id}/items/batch")
+    public ResponseEntity<List<ItemResponseDTO>> createItems(
+            @PathVariable Long id,
+            @Valid @RequestBody ItemBatchRequestDTO requestDTO) {
+        log.debug("Creating {} items in box ID: {}", requestDTO.getNames().size(), id);
+        List<ItemResponseDTO> createdItems = itemService.createItems(id, requestDTO.getNames());
+        log.debug("{} items created in box ID: {}", createdItems.size(), id);
+        return ResponseEntity.status(HttpStatus.CREATED).body(createdItems);
+    }
+
+    /**
+     * JSON and CBOR share an ETag, and a 304 never passes through {@link com.boxcopilot.backend.config.VaryAcceptAdvice},
+     * so the Vary header is set here.
+     */
+    private static <T> ResponseEntity<T> notModified(String eTag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+            .header(HttpHeaders.ETAG, eTag)
+            .varyBy(HttpHeaders.ACCEPT)
+            .build();
+    }
 }
@@ -0,0 +1,37 @@
+package com.boxcopilot.backend.controller;
+
+import java.util.Arrays;
+
+/**
+ * Helpers for conditional GET handling with If-None-Match.
+ */
+final class ETags {
+
+    private ETags() {
+    }
+
+    /**
+     * Weak ETag for a version-derived representation: equal versions mean semantically equal responses,
+     * not byte-identical ones.
+     */
+    static String weak(String name, long version) {
+        return "W/\"" + name + "-" + version + "\"";
+    }
+
+    /**
+     * Weak comparison (RFC 9110) of an If-None-Match header against the current ETag.
+     */
+    static boolean matches(String ifNoneMatch, String eTag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        String opaqueTag = stripWeakPrefix(eTag);
+        return Arrays.stream(ifNoneMatch.split(","))
+            .map(String::trim)
+            .anyMatch(candidate -> candidate.equals("*") || stripWeakPrefix(candidate).equals(opaqueTag));
+    }
+
+    private static String stripWeakPrefix(String eTag) {
+        return eTag.startsWith("W/") ? eTag.substring(2) : eTag;
+    }
+}
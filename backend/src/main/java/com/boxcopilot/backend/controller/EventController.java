@@ -0,0 +1,39 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.service.InventoryChangeStream;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * REST Controller for the server-sent event stream of inventory changes.
+ * All endpoints require authentication via OIDC.
+ */
+@RestController
+@RequestMapping("/api/v1/events")
+@PreAuthorize("isAuthenticated()")
+public class EventController {
+
+    private final InventoryChangeStream changeStream;
+
+    public EventController(InventoryChangeStream changeStream) {
+        this.changeStream = changeStream;
+    }
+
+    /**
+     * Streams an {@code inventory-changed} event for every committed box or item change.
+     */
+    @GetMapping(produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream() {
+        return ResponseEntity.ok()
+            .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+            // Tells nginx not to buffer the stream
+            .header("X-Accel-Buffering", "no")
+            .body(changeStream.subscribe());
+    }
+}
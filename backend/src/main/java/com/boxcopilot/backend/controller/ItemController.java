@@ -1,11 +1,13 @@
 package com.boxcopilot.backend.controller;
 
 import com.boxcopilot.backend.dto.BulkMoveItemsDTO;
+import com.boxcopilot.backend.dto.BulkOperationResultDTO;
 import com.boxcopilot.backend.dto.ItemRequestDTO;
 import com.boxcopilot.backend.dto.ItemResponseDTO;
 import com.boxcopilot.backend.dto.ItemUpdateDTO;
 import com.boxcopilot.backend.dto.MoveItemDTO;
 import com.boxcopilot.backend.service.ImageStorageService;
+import com.boxcopilot.backend.service.InventoryVersionService;
 import com.boxcopilot.backend.service.ItemService;
 import jakarta.validation.Valid;
 import org.slf4j.Logger;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * REST Controller for Item operations.
@@ -33,10 +36,13 @@ public class ItemController {
     private static final Logger log = LoggerFactory.getLogger(ItemController.class);
     private final ItemService itemService;
     private final ImageStorageService imageStorageService;
+    private final InventoryVersionService versionService;
 
-    public ItemController(ItemService itemService, ImageStorageService imageStorageService) {
+    public ItemController(ItemService itemService, ImageStorageService imageStorageService,
+                          InventoryVersionService versionService) {
         this.itemService = itemService;
         this.imageStorageService = imageStorageService;
+        this.versionService = versionService;
     }
 
     /**
@@ -46,19 +52,48 @@ public class ItemController {
     public ResponseEntity<List<ItemResponseDTO>> list() {
         log.debug("Fetching all items");
         List<ItemResponseDTO> items = itemService.getAllItems();
-        log.info("Retrieved {} items", items.size());
+        log.debug("Retrieved {} items", items.size());
         return ResponseEntity.ok(items);
     }
 
     /**
-     * Lists items by box UUID.
+     * Lists all items with only the requested fields, e.g. {@code ?fields=id,name,boxUuid}.
+     */
+    @GetMapping(params = "fields")
+    public ResponseEntity<List<Map<String, Object>>> listFields(@RequestParam String fields) {
+        log.debug("Fetching all items (fields={})", fields);
+        List<Map<String, Object>> items = itemService.getAllItemFields(fields);
+        log.debug("Retrieved {} items", items.size());
+        return ResponseEntity.ok(items);
+    }
+
+    /**
+     * Lists items by box UUID. Answers If-None-Match with 304 while the box version is unchanged.
      */
     @GetMapping("/box/{boxUuid}")
-    public ResponseEntity<List<ItemResponseDTO>> listByBox(@PathVariable String boxUuid) {
+    public ResponseEntity<List<ItemResponseDTO>> listByBox(
+            @PathVariable String boxUuid,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.debug("Fetching items for box UUID: {}", boxUuid);
+        String eTag = versionService.getBoxVersion(boxUuid)
+            .map(version -> ETags.weak("box-items", version))
+            .orElse(null);
+        if (eTag != null && ETags.matches(ifNoneMatch, eTag)) {
+            // No body means no VaryAcceptAdvice; JSON and CBOR share the ETag
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.ETAG, eTag)
+                .varyBy(HttpHeaders.ACCEPT)
+                .build();
+        }
         List<ItemResponseDTO> items = itemService.getItemsByBoxUuid(boxUuid);
-        log.info("Retrieved {} items for box: {}", items.size(), boxUuid);
-        return ResponseEntity.ok(items);
+        log.debug("Retrieved {} items for box: {}", items.size(), boxUuid);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+            .header(HttpHeaders.CACHE_CONTROL, "private, no-cache");
+        if (eTag != null) {
+            // Unknown boxes have no version to derive an ETag from
+            response.header(HttpHeaders.ETAG, eTag);
+        }
+        return response.body(items);
     }
 
     /**
@@ -71,7 +106,7 @@ public class ItemController {
             @RequestParam(required = false) String boxUuid) {
         log.debug("Searching items with query: '{}', boxUuid: {}", q, boxUuid);
         List<ItemResponseDTO> items = itemService.searchItems(q, boxUuid);
-        log.info("Search found {} items for query: '{}'", items.size(), q);
+        log.debug("Search found {} items for query: '{}'", items.size(), q);
         return ResponseEntity.ok(items);
     }
 
@@ -80,23 +115,24 @@ public class ItemController {
      */
     @PostMapping
     public ResponseEntity<ItemResponseDTO> create(@Valid @RequestBody ItemRequestDTO requestDTO) {
-        log.info("Creating new item: {} in box ID: {}", requestDTO.getName(), requestDTO.getBoxId());
+        log.debug("Creating new item: {} in box ID: {}", requestDTO.getName(), requestDTO.getBoxId());
         ItemResponseDTO createdItem = itemService.createItem(requestDTO);
-        log.info("Item created successfully with ID: {}", createdItem.getId());
+        log.debug("Item created successfully with ID: {}", createdItem.getId());
         return ResponseEntity.status(HttpStatus.CREATED).body(createdItem);
     }
 
     /**
-     * Updates an existing item.
+     * Updates an existing item. Answers {@code Prefer: return=minimal} with 204 without a body.
      */
     @PutMapping("/{id}")
     public ResponseEntity<ItemResponseDTO> update(
             @PathVariable Long id,
-            @Valid @RequestBody ItemUpdateDTO updateDTO) {
-        log.info("Updating item with ID: {}", id);
+            @Valid @RequestBody ItemUpdateDTO updateDTO,
+            @RequestHeader(value = Prefer.HEADER, required = false) String prefer) {
+        log.debug("Updating item with ID: {}", id);
         ItemResponseDTO updatedItem = itemService.updateItem(id, updateDTO);
-        log.info("Item updated successfully: {}", updatedItem.getName());
-        return ResponseEntity.ok(updatedItem);
+        log.debug("Item updated successfully: {}", updatedItem.getName());
+        return Prefer.returnMinimal(prefer) ? Prefer.minimal() : ResponseEntity.ok(updatedItem);
     }
 
     /**
@@ -104,9 +140,9 @@ public class ItemController {
      */
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable Long id) {
-        log.info("Deleting item with ID: {}", id);
+        log.debug("Deleting item with ID: {}", id);
         itemService.deleteItem(id);
-        log.info("Item with ID {} deleted successfully", id);
+        log.debug("Item with ID {} deleted successfully", id);
         return ResponseEntity.noContent().build();
     }
     
@@ -117,9 +153,9 @@ public class ItemController {
     public ResponseEntity<ItemResponseDTO> uploadImage(
             @PathVariable Long id,
             @RequestParam("file") MultipartFile file) {
-        log.info("Uploading image for item ID: {}", id);
+        log.debug("Uploading image for item ID: {}", id);
         ItemResponseDTO updatedItem = itemService.uploadImage(id, file);
-        log.info("Image uploaded successfully for item ID: {}", id);
+        log.debug("Image uploaded successfully for item ID: {}", id);
         return ResponseEntity.ok(updatedItem);
     }
     
@@ -128,34 +164,35 @@ public class ItemController {
      */
     @DeleteMapping("/{id}/image")
     public ResponseEntity<ItemResponseDTO> deleteImage(@PathVariable Long id) {
-        log.info("Deleting image for item ID: {}", id);
+        log.debug("Deleting image for item ID: {}", id);
         ItemResponseDTO updatedItem = itemService.deleteImage(id);
-        log.info("Image deleted successfully for item ID: {}", id);
+        log.debug("Image deleted successfully for item ID: {}", id);
         return ResponseEntity.ok(updatedItem);
     }
     
     /**
-     * Moves an item to a different box.
+     * Moves an item to a different box. Answers {@code Prefer: return=minimal} with 204 without a body.
      */
     @PutMapping("/{id}/move")
     public ResponseEntity<ItemResponseDTO> moveItem(
             @PathVariable Long id,
-            @Valid @RequestBody MoveItemDTO moveDTO) {
-        log.info("Moving item ID: {} to box ID: {}", id, moveDTO.getTargetBoxId());
+            @Valid @RequestBody MoveItemDTO moveDTO,
+            @RequestHeader(value = Prefer.HEADER, required = false) String prefer) {
+        log.debug("Moving item ID: {} to box ID: {}", id, moveDTO.getTargetBoxId());
         ItemResponseDTO movedItem = itemService.moveItem(id, moveDTO.getTargetBoxId());
-        log.info("Item ID: {} moved successfully", id);
-        return ResponseEntity.ok(movedItem);
+        log.debug("Item ID: {} moved successfully", id);
+        return Prefer.returnMinimal(prefer) ? Prefer.minimal() : ResponseEntity.ok(movedItem);
     }
     
     /**
-     * Moves multiple items to a different box.
+     * Moves multiple items to a different box. Returns which items were moved and which were not found.
      */
     @PutMapping("/move-bulk")
-    public ResponseEntity<Void> moveItems(@Valid @RequestBody BulkMoveItemsDTO bulkMoveDTO) {
-        log.info("Bulk moving {} items to box ID: {}", bulkMoveDTO.getItemIds().size(), bulkMoveDTO.getTargetBoxId());
-        itemService.moveItems(bulkMoveDTO.getItemIds(), bulkMoveDTO.getTargetBoxId());
-        log.info("Bulk move completed");
-        return ResponseEntity.ok().build();
+    public ResponseEntity<BulkOperationResultDTO> moveItems(@Valid @RequestBody BulkMoveItemsDTO bulkMoveDTO) {
+        log.debug("Bulk moving {} items to box ID: {}", bulkMoveDTO.getItemIds().size(), bulkMoveDTO.getTargetBoxId());
+        BulkOperationResultDTO result = itemService.moveItems(bulkMoveDTO.getItemIds(), bulkMoveDTO.getTargetBoxId());
+        log.debug("Bulk move completed: {} moved, {} missing", result.getProcessed(), result.getMissingIds().size());
+        return ResponseEntity.ok(result);
     }
 }
 
@@ -0,0 +1,39 @@
+package com.boxcopilot.backend.controller;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.Arrays;
+
+/**
+ * Helpers for the Prefer request header (RFC 7240) on write endpoints.
+ */
+final class Prefer {
+
+    static final String HEADER = "Prefer";
+    static final String PREFERENCE_APPLIED = "Preference-Applied";
+    static final String RETURN_MINIMAL = "return=minimal";
+
+    private Prefer() {
+    }
+
+    /**
+     * Whether the client asked for {@code return=minimal}, i.e. does not need the changed resource in the response.
+     */
+    static boolean returnMinimal(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        return Arrays.stream(prefer.split(","))
+            .map(preference -> preference.split(";", 2)[0].replace(" ", "").replace("\"", ""))
+            .anyMatch(RETURN_MINIMAL::equalsIgnoreCase);
+    }
+
+    /**
+     * 204 No Content that tells the client its preference was honored.
+     */
+    static <T> ResponseEntity<T> minimal() {
+        return ResponseEntity.noContent()
+            .header(PREFERENCE_APPLIED, RETURN_MINIMAL)
+            .build();
+    }
+}
@@ -1,22 +1,19 @@
 package com.boxcopilot.backend.controller;
 
-import com.boxcopilot.backend.domain.Box;
-import com.boxcopilot.backend.domain.Item;
-import com.boxcopilot.backend.dto.BoxPreviewDTO;
-import com.boxcopilot.backend.repository.BoxRepository;
-import com.boxcopilot.backend.repository.ItemRepository;
+import com.boxcopilot.backend.service.PublicPreviewService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @RestController
 @RequestMapping("/api/v1/public")
@@ -24,59 +21,36 @@ public class PublicPreviewController {
 
     private static final Logger log = LoggerFactory.getLogger(PublicPreviewController.class);
 
-    private final BoxRepository boxRepo;
-    private final ItemRepository itemRepo;
+    private final PublicPreviewService previewService;
 
-    public PublicPreviewController(BoxRepository boxRepo, ItemRepository itemRepo) {
-        this.boxRepo = boxRepo;
-        this.itemRepo = itemRepo;
+    public PublicPreviewController(PublicPreviewService previewService) {
+        this.previewService = previewService;
     }
 
     @GetMapping("/{uuid}")
-    @Transactional(readOnly = true)
-    public ResponseEntity<BoxPreviewDTO> preview(@PathVariable String uuid) {
+    public ResponseEntity<byte[]> preview(@PathVariable String uuid,
+                                          @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
         log.debug("Public preview requested for box UUID: {}", uuid);
-        // Find box directly by UUID
-        Optional<Box> boxOpt = boxRepo.findByUuid(uuid);
-        if (boxOpt.isEmpty()) {
+        Optional<PublicPreviewService.Preview> preview = previewService.getPreview(uuid);
+        if (preview.isEmpty()) {
             log.warn("Public preview failed - box not found: {}", uuid);
             return ResponseEntity.notFound().build();
         }
-        
-        final Box box = boxOpt.get();
 
-        // Fetch items by box ID (more efficient than loading all items)
-        List<Item> items = itemRepo.findByBoxIdOrderByNameAsc(box.getId());
-
-        List<BoxPreviewDTO.ItemDTO> itemDTOs = items.stream()
-            .map(i -> {
-                BoxPreviewDTO.ItemDTO dto = new BoxPreviewDTO.ItemDTO(i.getId(), i.getName());
-                // Add imageUrl if item has an image (with cache-busting timestamp)
-                if (i.getImagePath() != null && !i.getImagePath().isBlank() && i.getImageToken() != null) {
-                    String imageUrl = "/api/v1/public/items/" + i.getImageToken() + "/image";
-                    if (i.getImageUpdatedAt() != null) {
-                        imageUrl += "?t=" + i.getImageUpdatedAt();
-                    }
-                    dto.setImageUrl(imageUrl);
-                }
-                return dto;
-            })
-            .collect(Collectors.toList());
-
-        BoxPreviewDTO dto = new BoxPreviewDTO(
-            box.getId(),
-            box.getUuid(),
-            box.getCurrentRoom(),
-            box.getTargetRoom(),
-            box.getDescription(),
-            itemDTOs
-        );
-        
-        dto.setBoxNumber(box.getBoxNumber());
-        dto.setIsFragile(box.getIsFragile());
-        dto.setNoStack(box.getNoStack());
+        String eTag = preview.get().eTag();
+        // no-cache: clients keep the body but revalidate on every scan, which is a cache lookup plus 304.
+        // Sent on the 304 as well, which updates the headers stored with the cached response
+        if (ETags.matches(ifNoneMatch, eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                .header(HttpHeaders.ETAG, eTag)
+                .build();
+        }
 
-        log.info("Public preview generated for box: {} with {} items", uuid, itemDTOs.size());
-        return ResponseEntity.ok(dto);
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+            .header(HttpHeaders.ETAG, eTag)
+            .body(preview.get().json());
     }
 }
@@ -0,0 +1,40 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.dto.SyncResponseDTO;
+import com.boxcopilot.backend.service.SyncService;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for delta sync of the inventory.
+ * All endpoints require authentication via OIDC.
+ */
+@RestController
+@RequestMapping("/api/v1/sync")
+@PreAuthorize("isAuthenticated()")
+public class SyncController {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncController.class);
+    private final SyncService syncService;
+
+    public SyncController(SyncService syncService) {
+        this.syncService = syncService;
+    }
+
+    /**
+     * Returns boxes and items changed since the cursor of a previous sync, and deleted IDs.
+     */
+    @GetMapping
+    public ResponseEntity<SyncResponseDTO> sync(
+            @RequestParam(name = "since", defaultValue = "0") long since,
+            @RequestParam(name = "includeItems", defaultValue = "true") boolean includeItems) {
+        log.debug("Sync requested since cursor {} (includeItems={})", since, includeItems);
+        return ResponseEntity.ok(syncService.getChangesSince(Math.max(since, 0), includeItems));
+    }
+}
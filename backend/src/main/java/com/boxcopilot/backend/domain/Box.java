@@ -1,13 +1,22 @@
 package com.boxcopilot.backend.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "boxes")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BOX)
 public class Box {
+
+    // Enforced by request validation; the column itself stays TEXT, so existing longer descriptions are kept
+    public static final int DESCRIPTION_MAX_LENGTH = 2000;
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -24,8 +33,9 @@ public class Box {
     @Column
     private String targetRoom;
 
-    @Lob
-    @Column
+    // Plain TEXT rather than @Lob, which is read through the JDBC LOB API (a separate
+    // large object fetch on PostgreSQL) for every box in a list
+    @Column(columnDefinition = "TEXT")
     private String description;
 
     @Column(name = "is_fragile", nullable = false)
@@ -42,7 +52,21 @@ public class Box {
 
     private Instant createdAt = Instant.now();
 
-    @OneToMany(mappedBy = "box", cascade = CascadeType.ALL, orphanRemoval = true)
+    private Instant updatedAt = Instant.now();
+
+    // Incremented on every change to the box or its items (see InventoryVersionService)
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    // Inventory version of the last change, the delta sync cursor
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion = 0L;
+
+    // No REFRESH: refreshing a box must not reload every item of it
+    @OneToMany(mappedBy = "box", cascade = {CascadeType.PERSIST, CascadeType.MERGE, CascadeType.REMOVE,
+        CascadeType.DETACH}, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.BOX_ITEMS)
     private List<Item> items = new ArrayList<>();
 
     public Box() {
@@ -91,6 +115,21 @@ public class Box {
     public Instant getCreatedAt() { return createdAt; }
     public void setCreatedAt(Instant createdAt) { this.createdAt = createdAt; }
     
+    public Instant getUpdatedAt() { return updatedAt; }
+
+    public Long getChangeVersion() { return changeVersion; }
+
+    /**
+     * Marks the box as changed at the given inventory version, e.g. because its items changed.
+     * This makes the box dirty, so its version is incremented on flush.
+     */
+    public void markChanged(long changeVersion) {
+        this.changeVersion = changeVersion;
+        this.updatedAt = Instant.now();
+    }
+
+    public Long getVersion() { return version; }
+
     public List<Item> getItems() { return items; }
     public void setItems(List<Item> items) { this.items = items; }
 }
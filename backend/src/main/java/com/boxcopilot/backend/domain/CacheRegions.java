@@ -0,0 +1,18 @@
+package com.boxcopilot.backend.domain;
+
+import java.util.List;
+
+/**
+ * Hibernate second-level cache regions. Sizes and TTLs are configured per region in hibernate-jcache.conf.
+ */
+public final class CacheRegions {
+
+    public static final String BOX = "boxcopilot-box";
+    public static final String ITEM = "boxcopilot-item";
+    public static final String BOX_ITEMS = "boxcopilot-box-items";
+
+    public static final List<String> ALL = List.of(BOX, ITEM, BOX_ITEMS);
+
+    private CacheRegions() {
+    }
+}
@@ -0,0 +1,38 @@
+package com.boxcopilot.backend.domain;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row counter of committed inventory changes, used as ETag for box lists.
+ */
+@Entity
+@Table(name = "inventory_version")
+public class InventoryVersion {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long version;
+
+    // Tombstones up to this version have been pruned (see SyncService.pruneTombstones)
+    @Column(name = "pruned_version", nullable = false)
+    private Long prunedVersion;
+
+    public InventoryVersion() {
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public Long getPrunedVersion() {
+        return prunedVersion;
+    }
+}
@@ -1,12 +1,25 @@
 package com.boxcopilot.backend.domain;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+import java.time.Instant;
 
 @Entity
 @Table(name = "items")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.ITEM)
 public class Item {
+
+    // Ids reserved per sequence call; must match the increment items_seq was created with (100, see
+    // ItemIdSequenceMigration). Changing it needs a migration that alters the sequence
+    public static final int ID_ALLOCATION_SIZE = 100;
+
+    // Sequence ids are assigned before the insert, which lets Hibernate batch item inserts
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "items_seq")
+    @SequenceGenerator(name = "items_seq", sequenceName = "items_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(optional = false)
@@ -24,6 +37,13 @@ public class Item {
     @Column(name = "image_updated_at")
     private Long imageUpdatedAt;
 
+    @Column(name = "updated_at")
+    private Instant updatedAt;
+
+    // Inventory version of the last change, the delta sync cursor
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion = 0L;
+
     public Item() {}
 
     public Item(Box box, String name) {
@@ -42,4 +62,14 @@ public class Item {
     public void setImageToken(String imageToken) { this.imageToken = imageToken; }
     public Long getImageUpdatedAt() { return imageUpdatedAt; }
     public void setImageUpdatedAt(Long imageUpdatedAt) { this.imageUpdatedAt = imageUpdatedAt; }
+    public Instant getUpdatedAt() { return updatedAt; }
+    public Long getChangeVersion() { return changeVersion; }
+
+    /**
+     * Marks the item as changed at the given inventory version.
+     */
+    public void markChanged(long changeVersion) {
+        this.changeVersion = changeVersion;
+        this.updatedAt = Instant.now();
+    }
 }
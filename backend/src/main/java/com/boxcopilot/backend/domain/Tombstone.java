@@ -0,0 +1,66 @@
+package com.boxcopilot.backend.domain;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Record of a deleted box or item, so delta sync clients can remove it.
+ * Items deleted together with their box get no tombstone of their own; clients drop the items of deleted boxes.
+ * Tombstones are pruned after a retention period (app.sync.tombstone-retention).
+ */
+@Entity
+@Table(name = "tombstones")
+public class Tombstone {
+
+    public enum EntityType {
+        BOX,
+        ITEM
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 16)
+    private EntityType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private Long entityId;
+
+    @Column(name = "change_version", nullable = false)
+    private Long changeVersion;
+
+    @Column(name = "deleted_at", nullable = false)
+    private Instant deletedAt = Instant.now();
+
+    public Tombstone() {
+    }
+
+    public Tombstone(EntityType entityType, Long entityId, Long changeVersion) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.changeVersion = changeVersion;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public EntityType getEntityType() {
+        return entityType;
+    }
+
+    public Long getEntityId() {
+        return entityId;
+    }
+
+    public Long getChangeVersion() {
+        return changeVersion;
+    }
+
+    public Instant getDeletedAt() {
+        return deletedAt;
+    }
+}
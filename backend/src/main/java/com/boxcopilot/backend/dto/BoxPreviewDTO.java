@@ -50,6 +50,7 @@ public class BoxPreviewDTO {
         private Long id;
         private String name;
         private String imageUrl;
+        private String largeImageUrl;
 
         public ItemDTO() {}
 
@@ -64,5 +65,7 @@ public class BoxPreviewDTO {
         public void setName(String name) { this.name = name; }
         public String getImageUrl() { return imageUrl; }
         public void setImageUrl(String imageUrl) { this.imageUrl = imageUrl; }
+        public String getLargeImageUrl() { return largeImageUrl; }
+        public void setLargeImageUrl(String largeImageUrl) { this.largeImageUrl = largeImageUrl; }
     }
 }
@@ -23,6 +23,7 @@ public class BoxResponseDTO {
     private Boolean noStack;
     private Boolean isMovedToTarget;
     private Boolean labelPrinted;
+    private Long version;
 
     public BoxResponseDTO() {
     }
@@ -146,4 +147,12 @@ public class BoxResponseDTO {
     public void setLabelPrinted(Boolean labelPrinted) {
         this.labelPrinted = labelPrinted;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
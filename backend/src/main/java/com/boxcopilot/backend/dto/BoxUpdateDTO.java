@@ -1,5 +1,6 @@
 package com.boxcopilot.backend.dto;
 
+import com.boxcopilot.backend.domain.Box;
 import jakarta.validation.constraints.Size;
 
 /**
@@ -14,6 +15,7 @@ public class BoxUpdateDTO {
     @Size(max = 255, message = "Target room must be at most 255 characters")
     private String targetRoom;
     
+    @Size(max = Box.DESCRIPTION_MAX_LENGTH, message = "Description must be at most {max} characters")
     private String description;
     
     private Boolean isFragile;
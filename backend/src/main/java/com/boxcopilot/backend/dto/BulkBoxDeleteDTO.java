@@ -0,0 +1,28 @@
+package com.boxcopilot.backend.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import java.util.List;
+
+/**
+ * DTO for deleting multiple boxes.
+ */
+public class BulkBoxDeleteDTO {
+
+    @NotEmpty(message = "Box IDs list cannot be empty")
+    private List<Long> boxIds;
+
+    public BulkBoxDeleteDTO() {
+    }
+
+    public BulkBoxDeleteDTO(List<Long> boxIds) {
+        this.boxIds = boxIds;
+    }
+
+    public List<Long> getBoxIds() {
+        return boxIds;
+    }
+
+    public void setBoxIds(List<Long> boxIds) {
+        this.boxIds = boxIds;
+    }
+}
@@ -0,0 +1,53 @@
+package com.boxcopilot.backend.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import java.util.List;
+
+/**
+ * DTO for applying the same partial update to multiple boxes.
+ */
+public class BulkBoxUpdateDTO {
+
+    @NotEmpty(message = "Box IDs list cannot be empty")
+    private List<Long> boxIds;
+
+    @NotNull(message = "Changes are required")
+    @Valid
+    private BoxUpdateDTO changes;
+
+    public BulkBoxUpdateDTO() {
+    }
+
+    public BulkBoxUpdateDTO(List<Long> boxIds, BoxUpdateDTO changes) {
+        this.boxIds = boxIds;
+        this.changes = changes;
+    }
+
+    public List<Long> getBoxIds() {
+        return boxIds;
+    }
+
+    public void setBoxIds(List<Long> boxIds) {
+        this.boxIds = boxIds;
+    }
+
+    public BoxUpdateDTO getChanges() {
+        return changes;
+    }
+
+    public void setChanges(BoxUpdateDTO changes) {
+        this.changes = changes;
+    }
+
+    @JsonIgnore
+    @AssertTrue(message = "At least one field must be changed")
+    public boolean isChangesPresent() {
+        return changes == null || changes.getCurrentRoom() != null || changes.getTargetRoom() != null
+            || changes.getDescription() != null || changes.getIsFragile() != null || changes.getNoStack() != null
+            || changes.getIsMovedToTarget() != null || changes.getLabelPrinted() != null;
+    }
+}
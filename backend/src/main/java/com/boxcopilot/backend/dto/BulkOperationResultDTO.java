@@ -0,0 +1,50 @@
+package com.boxcopilot.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Per-id outcome of a bulk operation: which ids were processed and which did not exist.
+ */
+public class BulkOperationResultDTO {
+    private int requested;
+    private List<Long> processedIds = new ArrayList<>();
+    private List<Long> missingIds = new ArrayList<>();
+
+    public BulkOperationResultDTO() {
+    }
+
+    public BulkOperationResultDTO(int requested, List<Long> processedIds, List<Long> missingIds) {
+        this.requested = requested;
+        this.processedIds = processedIds;
+        this.missingIds = missingIds;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public void setRequested(int requested) {
+        this.requested = requested;
+    }
+
+    public int getProcessed() {
+        return processedIds.size();
+    }
+
+    public List<Long> getProcessedIds() {
+        return processedIds;
+    }
+
+    public void setProcessedIds(List<Long> processedIds) {
+        this.processedIds = processedIds;
+    }
+
+    public List<Long> getMissingIds() {
+        return missingIds;
+    }
+
+    public void setMissingIds(List<Long> missingIds) {
+        this.missingIds = missingIds;
+    }
+}
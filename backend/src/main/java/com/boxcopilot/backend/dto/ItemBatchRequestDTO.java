@@ -0,0 +1,32 @@
+package com.boxcopilot.backend.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+/**
+ * DTO for adding several items to a box at once.
+ */
+public class ItemBatchRequestDTO {
+
+    @NotEmpty(message = "Item names list cannot be empty")
+    @Size(max = 1000, message = "At most 1000 items can be added at once")
+    private List<@NotBlank(message = "Name is required")
+                 @Size(max = 255, message = "Name must be between 1 and 255 characters") String> names;
+
+    public ItemBatchRequestDTO() {
+    }
+
+    public ItemBatchRequestDTO(List<String> names) {
+        this.names = names;
+    }
+
+    public List<String> getNames() {
+        return names;
+    }
+
+    public void setNames(List<String> names) {
+        this.names = names;
+    }
+}
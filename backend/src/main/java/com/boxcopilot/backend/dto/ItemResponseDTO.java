@@ -12,6 +12,7 @@ public class ItemResponseDTO {
     private String boxCurrentRoom;
     private String boxTargetRoom;
     private String imageUrl;
+    private String largeImageUrl;
 
     public ItemResponseDTO() {
     }
@@ -80,5 +81,13 @@ public class ItemResponseDTO {
     public void setImageUrl(String imageUrl) {
         this.imageUrl = imageUrl;
     }
+
+    public String getLargeImageUrl() {
+        return largeImageUrl;
+    }
+
+    public void setLargeImageUrl(String largeImageUrl) {
+        this.largeImageUrl = largeImageUrl;
+    }
 }
 
@@ -0,0 +1,81 @@
+package com.boxcopilot.backend.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Changes since a sync cursor. Boxes are summaries (no item payload, with item count).
+ * Pass {@code cursor} as {@code since} on the next call; {@code since=0} returns everything.
+ * Deleted boxes are listed without their items; clients drop the items of a deleted box themselves.
+ * {@code resync} is set when the cursor is older than the retained deletions: the response then holds
+ * everything, like {@code since=0}, and replaces the client's state.
+ */
+public class SyncResponseDTO {
+    private long cursor;
+    private boolean resync;
+    private List<BoxResponseDTO> boxes = new ArrayList<>();
+    private List<ItemResponseDTO> items = new ArrayList<>();
+    private List<Long> deletedBoxIds = new ArrayList<>();
+    private List<Long> deletedItemIds = new ArrayList<>();
+
+    public SyncResponseDTO() {
+    }
+
+    public SyncResponseDTO(long cursor, boolean resync, List<BoxResponseDTO> boxes, List<ItemResponseDTO> items,
+                           List<Long> deletedBoxIds, List<Long> deletedItemIds) {
+        this.cursor = cursor;
+        this.resync = resync;
+        this.boxes = boxes;
+        this.items = items;
+        this.deletedBoxIds = deletedBoxIds;
+        this.deletedItemIds = deletedItemIds;
+    }
+
+    public long getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(long cursor) {
+        this.cursor = cursor;
+    }
+
+    public boolean isResync() {
+        return resync;
+    }
+
+    public void setResync(boolean resync) {
+        this.resync = resync;
+    }
+
+    public List<BoxResponseDTO> getBoxes() {
+        return boxes;
+    }
+
+    public void setBoxes(List<BoxResponseDTO> boxes) {
+        this.boxes = boxes;
+    }
+
+    public List<ItemResponseDTO> getItems() {
+        return items;
+    }
+
+    public void setItems(List<ItemResponseDTO> items) {
+        this.items = items;
+    }
+
+    public List<Long> getDeletedBoxIds() {
+        return deletedBoxIds;
+    }
+
+    public void setDeletedBoxIds(List<Long> deletedBoxIds) {
+        this.deletedBoxIds = deletedBoxIds;
+    }
+
+    public List<Long> getDeletedItemIds() {
+        return deletedItemIds;
+    }
+
+    public void setDeletedItemIds(List<Long> deletedItemIds) {
+        this.deletedItemIds = deletedItemIds;
+    }
+}
@@ -5,10 +5,14 @@ import com.boxcopilot.backend.domain.Item;
 import com.boxcopilot.backend.dto.BoxRequestDTO;
 import com.boxcopilot.backend.dto.BoxResponseDTO;
 import com.boxcopilot.backend.dto.BoxUpdateDTO;
+import jakarta.persistence.Tuple;
 import org.springframework.stereotype.Component;
 
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -69,6 +73,7 @@ public class BoxMapper {
         dto.setNoStack(entity.getNoStack());
         dto.setIsMovedToTarget(entity.getIsMovedToTarget());
         dto.setLabelPrinted(entity.getLabelPrinted());
+        dto.setVersion(entity.getVersion());
 
         // Add items if they exist (sorted alphabetically), otherwise use empty list
         if (entity.getItems() != null && !entity.getItems().isEmpty()) {
@@ -109,12 +114,64 @@ public class BoxMapper {
         dto.setNoStack(entity.getNoStack());
         dto.setIsMovedToTarget(entity.getIsMovedToTarget());
         dto.setLabelPrinted(entity.getLabelPrinted());
+        dto.setVersion(entity.getVersion());
         dto.setItems(new ArrayList<>());
         dto.setItemCount(entity.getItems() != null ? entity.getItems().size() : 0);
 
         return dto;
     }
 
+    /**
+     * Converts a sparse fieldset tuple (see BoxProjectionRepository) to a map with the requested fields in order.
+     * Applies the same defaults as {@link #toSummaryResponseDTO(Box)}.
+     */
+    public Map<String, Object> toFieldMap(Tuple tuple, List<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            Object value = tuple.get(field);
+            switch (field) {
+                case "boxNumber" -> values.put(field, value != null ? value : 0);
+                case "itemCount" -> values.put(field, ((Number) value).intValue());
+                default -> values.put(field, value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Converts the non-null fields of a BoxUpdateDTO to entity attribute values for a set-based update.
+     * Mirrors {@link #updateEntity(Box, BoxUpdateDTO)}.
+     */
+    public Map<String, Object> toChangedAttributes(BoxUpdateDTO dto) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        if (dto == null) {
+            return attributes;
+        }
+
+        if (dto.getCurrentRoom() != null) {
+            attributes.put("currentRoom", dto.getCurrentRoom());
+        }
+        if (dto.getTargetRoom() != null) {
+            attributes.put("targetRoom", dto.getTargetRoom());
+        }
+        if (dto.getDescription() != null) {
+            attributes.put("description", dto.getDescription());
+        }
+        if (dto.getIsFragile() != null) {
+            attributes.put("isFragile", dto.getIsFragile());
+        }
+        if (dto.getNoStack() != null) {
+            attributes.put("noStack", dto.getNoStack());
+        }
+        if (dto.getIsMovedToTarget() != null) {
+            attributes.put("isMovedToTarget", dto.getIsMovedToTarget());
+        }
+        if (dto.getLabelPrinted() != null) {
+            attributes.put("labelPrinted", dto.getLabelPrinted());
+        }
+        return attributes;
+    }
+
     /**
      * Updates an existing Box entity with values from BoxUpdateDTO.
      * Only updates non-null fields.
@@ -0,0 +1,89 @@
+package com.boxcopilot.backend.mapper;
+
+import com.boxcopilot.backend.domain.Item;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Public image URLs of items, e.g. {@code /api/v1/public/items/{token}/image?t=...}. The URLs of all renditions
+ * are rendered once per image version (token and upload timestamp) and cached, so mapping lists hands out the same
+ * strings instead of concatenating new ones for every item on every request.
+ * URLs are relative to the API unless app.image.public-base-url points them at another host (e.g. a CDN).
+ */
+@Component
+public class ItemImageUrls {
+
+    private static final String PUBLIC_ITEMS_PATH = "/api/v1/public/items/";
+
+    /**
+     * The stored versions of an item image, served by PublicItemImageController.
+     */
+    public enum Rendition {
+        THUMBNAIL("/image"),
+        LARGE("/image/large");
+
+        private final String path;
+
+        Rendition(String path) {
+            this.path = path;
+        }
+    }
+
+    private static final Rendition[] RENDITIONS = Rendition.values();
+
+    private final String prefix;
+    private final Cache<String, RenderedUrls> cache;
+
+    public ItemImageUrls(MeterRegistry meterRegistry,
+                         @Value("${app.image.public-base-url:}") String baseUrl,
+                         @Value("${app.image.url-cache.max-size:100000}") long maxSize) {
+        this.prefix = baseUrl.replaceAll("/+$", "") + PUBLIC_ITEMS_PATH;
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "itemImageUrls");
+    }
+
+    /**
+     * URL of the given rendition of the item's image, or null if the item has no image.
+     */
+    public String get(Item item, Rendition rendition) {
+        return get(item.getImagePath(), item.getImageToken(), item.getImageUpdatedAt(), rendition);
+    }
+
+    /**
+     * URL of the given rendition of an image stored under imagePath, or null if there is no image.
+     * The upload timestamp is appended as cache buster, so browsers and CDNs pick up replaced images.
+     */
+    public String get(String imagePath, String imageToken, Long imageUpdatedAt, Rendition rendition) {
+        if (imagePath == null || imagePath.isBlank() || imageToken == null) {
+            return null;
+        }
+        RenderedUrls urls = cache.getIfPresent(imageToken);
+        if (urls == null || !Objects.equals(urls.imageUpdatedAt(), imageUpdatedAt)) {
+            // A new upload replaces the entry of the previous version
+            urls = render(imageToken, imageUpdatedAt);
+            cache.put(imageToken, urls);
+        }
+        return urls.byRendition()[rendition.ordinal()];
+    }
+
+    private RenderedUrls render(String imageToken, Long imageUpdatedAt) {
+        String query = imageUpdatedAt != null ? "?t=" + imageUpdatedAt : "";
+        String[] byRendition = new String[RENDITIONS.length];
+        for (Rendition rendition : RENDITIONS) {
+            byRendition[rendition.ordinal()] = prefix + imageToken + rendition.path + query;
+        }
+        return new RenderedUrls(imageUpdatedAt, byRendition);
+    }
+
+    private record RenderedUrls(Long imageUpdatedAt, String[] byRendition) {
+    }
+}
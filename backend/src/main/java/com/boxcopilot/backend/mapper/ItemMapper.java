@@ -4,14 +4,25 @@ import com.boxcopilot.backend.domain.Item;
 import com.boxcopilot.backend.dto.ItemRequestDTO;
 import com.boxcopilot.backend.dto.ItemResponseDTO;
 import com.boxcopilot.backend.dto.ItemUpdateDTO;
+import jakarta.persistence.Tuple;
 import org.springframework.stereotype.Component;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * Mapper for Item entity and DTOs.
  */
 @Component
 public class ItemMapper {
 
+    private final ItemImageUrls imageUrls;
+
+    public ItemMapper(ItemImageUrls imageUrls) {
+        this.imageUrls = imageUrls;
+    }
+
     /**
      * Converts ItemRequestDTO to Item entity (without Box reference).
      * Box must be set separately.
@@ -55,16 +66,25 @@ public class ItemMapper {
             boxTargetRoom
         );
         
-        // Set imageUrl if imagePath exists (with cache-busting timestamp)
-        if (entity.getImagePath() != null && !entity.getImagePath().isBlank() && entity.getImageToken() != null) {
-            String imageUrl = "/api/v1/public/items/" + entity.getImageToken() + "/image";
-            if (entity.getImageUpdatedAt() != null) {
-                imageUrl += "?t=" + entity.getImageUpdatedAt();
+        dto.setImageUrl(imageUrls.get(entity, ItemImageUrls.Rendition.THUMBNAIL));
+        dto.setLargeImageUrl(imageUrls.get(entity, ItemImageUrls.Rendition.LARGE));
+        return dto;
+    }
+
+    /**
+     * Converts a sparse fieldset tuple (see ItemProjectionRepository) to a map with the requested fields in order.
+     */
+    public Map<String, Object> toFieldMap(Tuple tuple, List<String> fields) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (String field : fields) {
+            if (field.equals("imageUrl")) {
+                values.put(field, imageUrls.get(tuple.get("imagePath", String.class), tuple.get("imageToken", String.class),
+                    tuple.get("imageUpdatedAt", Long.class), ItemImageUrls.Rendition.THUMBNAIL));
+            } else {
+                values.put(field, tuple.get(field));
             }
-            dto.setImageUrl(imageUrl);
         }
-        
-        return dto;
+        return values;
     }
 
     /**
@@ -0,0 +1,16 @@
+package com.boxcopilot.backend.repository;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Set-based box updates whose SET clause depends on which attributes are given.
+ */
+public interface BoxBulkUpdateRepository {
+
+    /**
+     * Sets the given attributes (by entity attribute name) on all boxes with the given ids in one UPDATE statement
+     * and returns the number of updated rows. Also evicts the box cache region.
+     */
+    int updateAttributes(Collection<Long> ids, Map<String, Object> attributes);
+}
@@ -0,0 +1,35 @@
+package com.boxcopilot.backend.repository;
+
+import com.boxcopilot.backend.domain.Box;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaUpdate;
+import jakarta.persistence.criteria.Root;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Criteria API implementation of {@link BoxBulkUpdateRepository}, picked up by Spring Data as a repository fragment.
+ */
+class BoxBulkUpdateRepositoryImpl implements BoxBulkUpdateRepository {
+
+    private final EntityManager entityManager;
+
+    BoxBulkUpdateRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public int updateAttributes(Collection<Long> ids, Map<String, Object> attributes) {
+        if (ids.isEmpty() || attributes.isEmpty()) {
+            return 0;
+        }
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaUpdate<Box> update = cb.createCriteriaUpdate(Box.class);
+        Root<Box> box = update.from(Box.class);
+        attributes.forEach(update::set);
+        update.where(box.get("id").in(ids));
+        return entityManager.createQuery(update).executeUpdate();
+    }
+}
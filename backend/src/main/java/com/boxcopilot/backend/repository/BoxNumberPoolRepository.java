@@ -2,9 +2,11 @@ package com.boxcopilot.backend.repository;
 
 import com.boxcopilot.backend.domain.BoxNumberPool;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -35,4 +37,11 @@ public interface BoxNumberPoolRepository extends JpaRepository<BoxNumberPool, In
      * Zählt verfügbare Nummern
      */
     long countByIsAvailableTrue();
+
+    /**
+     * Gibt mehrere Nummern in einem Statement zurück in den Pool
+     */
+    @Modifying
+    @Query("UPDATE BoxNumberPool b SET b.isAvailable = true WHERE b.boxNumber IN :boxNumbers")
+    int releaseAll(Collection<Integer> boxNumbers);
 }
@@ -0,0 +1,24 @@
+package com.boxcopilot.backend.repository;
+
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Box list queries that select only the requested fields (sparse fieldsets).
+ */
+public interface BoxProjectionRepository {
+
+    /**
+     * Fields that can be selected, in their default response order.
+     */
+    Set<String> FIELDS = BoxProjectionRepositoryImpl.SELECTIONS.keySet();
+
+    /**
+     * Returns one tuple per box, ordered like the box list, whose elements are aliased with the requested field names.
+     * Only the columns of these fields are read; {@code itemCount} is counted in the database.
+     */
+    List<Tuple> findAllWithFields(Collection<String> fields);
+}
@@ -0,0 +1,51 @@
+package com.boxcopilot.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPQL implementation of {@link BoxProjectionRepository}, picked up by Spring Data as a repository fragment.
+ */
+class BoxProjectionRepositoryImpl implements BoxProjectionRepository {
+
+    // Select clause fragment per field, aliased with the field name
+    static final Map<String, String> SELECTIONS;
+
+    static {
+        Map<String, String> selections = new LinkedHashMap<>();
+        selections.put("id", "b.id AS id");
+        selections.put("uuid", "b.uuid AS uuid");
+        selections.put("boxNumber", "b.boxNumber AS boxNumber");
+        selections.put("currentRoom", "b.currentRoom AS currentRoom");
+        selections.put("targetRoom", "b.targetRoom AS targetRoom");
+        selections.put("description", "b.description AS description");
+        selections.put("isFragile", "b.isFragile AS isFragile");
+        selections.put("noStack", "b.noStack AS noStack");
+        selections.put("isMovedToTarget", "b.isMovedToTarget AS isMovedToTarget");
+        selections.put("labelPrinted", "b.labelPrinted AS labelPrinted");
+        selections.put("createdAt", "b.createdAt AS createdAt");
+        selections.put("version", "b.version AS version");
+        selections.put("itemCount", "(SELECT COUNT(i) FROM Item i WHERE i.box = b) AS itemCount");
+        SELECTIONS = Collections.unmodifiableMap(selections);
+    }
+
+    private final EntityManager entityManager;
+
+    BoxProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Tuple> findAllWithFields(Collection<String> fields) {
+        String select = Projections.selectClause(SELECTIONS, fields);
+        return entityManager.createQuery(
+                "SELECT " + select + " FROM Box b ORDER BY b.boxNumber DESC, b.id DESC", Tuple.class)
+            .getResultList();
+    }
+}
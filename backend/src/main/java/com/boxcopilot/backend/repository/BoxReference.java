@@ -0,0 +1,13 @@
+package com.boxcopilot.backend.repository;
+
+/**
+ * Projection of the identifying columns of a box, without loading the entity.
+ */
+public interface BoxReference {
+
+    Long getId();
+
+    String getUuid();
+
+    Integer getBoxNumber();
+}
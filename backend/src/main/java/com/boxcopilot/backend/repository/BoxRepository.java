@@ -1,11 +1,57 @@
 package com.boxcopilot.backend.repository;
 
 import com.boxcopilot.backend.domain.Box;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.Optional;
 
-public interface BoxRepository extends JpaRepository<Box, Long> {
+public interface BoxRepository extends JpaRepository<Box, Long>, BoxBulkUpdateRepository, BoxProjectionRepository {
     java.util.List<Box> findAllByOrderByBoxNumberDescIdDesc();
     Optional<Box> findByUuid(String uuid);
+
+    @Query("SELECT b.version FROM Box b WHERE b.uuid = :uuid")
+    Optional<Long> findVersionByUuid(String uuid);
+
+    java.util.List<Box> findByChangeVersionGreaterThanOrderByBoxNumberDescIdDesc(long changeVersion);
+
+    @Query("SELECT b.id AS id, b.uuid AS uuid, b.boxNumber AS boxNumber FROM Box b WHERE b.id IN :ids")
+    java.util.List<BoxReference> findReferencesByIdIn(Collection<Long> ids);
+
+    @Query("SELECT b.id FROM Box b WHERE b.uuid IN :uuids")
+    java.util.List<Long> findIdsByUuidIn(Collection<String> uuids);
+
+    /**
+     * Locks the rows of the boxes in id order, so writers of overlapping boxes queue up instead of deadlocking,
+     * and returns their committed versions. Does not flush, so pending box changes are written together with
+     * the change stamp.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FLUSH_MODE, value = "COMMIT"))
+    @Query("SELECT b.id AS id, b.version AS version FROM Box b WHERE b.uuid IN :uuids ORDER BY b.id")
+    java.util.List<BoxVersion> lockByUuidIn(Collection<String> uuids);
+
+    /**
+     * Stamps the boxes in one statement and increments their version, as a flush of the changed entity would.
+     * Also evicts the box cache region, so it is only used for changes to many boxes at once.
+     */
+    @Modifying
+    @Query("UPDATE Box b SET b.changeVersion = :changeVersion, b.updatedAt = :updatedAt, b.version = b.version + 1 "
+        + "WHERE b.uuid IN :uuids")
+    int markChanged(Collection<String> uuids, long changeVersion, Instant updatedAt);
+
+    /**
+     * Deletes the boxes in one statement. Their items must be deleted first (see ItemRepository.deleteByBoxIdIn).
+     */
+    @Modifying
+    @Query("DELETE FROM Box b WHERE b.id IN :ids")
+    int deleteByIdIn(Collection<Long> ids);
 }
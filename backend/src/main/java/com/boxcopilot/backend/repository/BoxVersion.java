@@ -0,0 +1,11 @@
+package com.boxcopilot.backend.repository;
+
+/**
+ * Projection of a box id and its committed version, without loading the entity.
+ */
+public interface BoxVersion {
+
+    Long getId();
+
+    Long getVersion();
+}
@@ -0,0 +1,27 @@
+package com.boxcopilot.backend.repository;
+
+import com.boxcopilot.backend.domain.InventoryVersion;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+/**
+ * Repository for the global inventory version counter.
+ */
+public interface InventoryVersionRepository extends JpaRepository<InventoryVersion, Integer> {
+
+    @Query("SELECT v.version FROM InventoryVersion v WHERE v.id = " + InventoryVersion.ID)
+    long findCurrentVersion();
+
+    @Modifying
+    @Query("UPDATE InventoryVersion v SET v.version = v.version + 1 WHERE v.id = " + InventoryVersion.ID)
+    int increment();
+
+    @Query("SELECT v.prunedVersion FROM InventoryVersion v WHERE v.id = " + InventoryVersion.ID)
+    long findPrunedVersion();
+
+    @Modifying
+    @Query("UPDATE InventoryVersion v SET v.prunedVersion = :prunedVersion "
+        + "WHERE v.id = " + InventoryVersion.ID + " AND v.prunedVersion < :prunedVersion")
+    int advancePrunedVersion(long prunedVersion);
+}
@@ -0,0 +1,11 @@
+package com.boxcopilot.backend.repository;
+
+/**
+ * Projection of an item's id and the UUID of the box it is in.
+ */
+public interface ItemLocation {
+
+    Long getId();
+
+    String getBoxUuid();
+}
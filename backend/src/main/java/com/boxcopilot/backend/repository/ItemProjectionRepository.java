@@ -0,0 +1,24 @@
+package com.boxcopilot.backend.repository;
+
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Item list queries that select only the requested fields (sparse fieldsets).
+ */
+public interface ItemProjectionRepository {
+
+    /**
+     * Fields that can be selected, in their default response order.
+     */
+    Set<String> FIELDS = ItemProjectionRepositoryImpl.SELECTIONS.keySet();
+
+    /**
+     * Returns one tuple per item, ordered by name, whose elements are aliased with the requested field names.
+     * {@code imageUrl} is selected as its parts {@code imagePath}, {@code imageToken} and {@code imageUpdatedAt}.
+     */
+    List<Tuple> findAllWithFields(Collection<String> fields);
+}
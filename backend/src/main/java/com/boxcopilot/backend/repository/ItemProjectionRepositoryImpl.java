@@ -0,0 +1,45 @@
+package com.boxcopilot.backend.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JPQL implementation of {@link ItemProjectionRepository}, picked up by Spring Data as a repository fragment.
+ */
+class ItemProjectionRepositoryImpl implements ItemProjectionRepository {
+
+    // Select clause fragment per field, aliased with the field name
+    static final Map<String, String> SELECTIONS;
+
+    static {
+        Map<String, String> selections = new LinkedHashMap<>();
+        selections.put("id", "i.id AS id");
+        selections.put("name", "i.name AS name");
+        selections.put("boxId", "b.id AS boxId");
+        selections.put("boxUuid", "b.uuid AS boxUuid");
+        selections.put("boxCurrentRoom", "b.currentRoom AS boxCurrentRoom");
+        selections.put("boxTargetRoom", "b.targetRoom AS boxTargetRoom");
+        selections.put("imageUrl", "i.imagePath AS imagePath, i.imageToken AS imageToken, i.imageUpdatedAt AS imageUpdatedAt");
+        SELECTIONS = Collections.unmodifiableMap(selections);
+    }
+
+    private final EntityManager entityManager;
+
+    ItemProjectionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public List<Tuple> findAllWithFields(Collection<String> fields) {
+        String select = Projections.selectClause(SELECTIONS, fields);
+        return entityManager.createQuery(
+                "SELECT " + select + " FROM Item i JOIN i.box b ORDER BY LOWER(i.name), i.id", Tuple.class)
+            .getResultList();
+    }
+}
@@ -1,14 +1,52 @@
 package com.boxcopilot.backend.repository;
 
+import com.boxcopilot.backend.domain.Box;
 import com.boxcopilot.backend.domain.Item;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemProjectionRepository {
 	List<Item> findByNameContainingIgnoreCaseOrderByNameAsc(String namePart);
 	List<Item> findByBox_UuidAndNameContainingIgnoreCaseOrderByNameAsc(String boxUuid, String namePart);
 	List<Item> findByBoxIdOrderByNameAsc(Long boxId);
 	List<Item> findByBox_UuidOrderByNameAsc(String boxUuid);
 	Optional<Item> findByImageToken(String imageToken);
+
+	@EntityGraph(attributePaths = "box")
+	List<Item> findByChangeVersionGreaterThanOrderByIdAsc(long changeVersion);
+
+	/**
+	 * Finds legacy items that still lack an image token, limited to one page so backfills run in chunks.
+	 */
+	@Query("SELECT i FROM Item i WHERE i.imageToken IS NULL OR TRIM(i.imageToken) = '' ORDER BY i.id")
+	List<Item> findWithoutImageToken(Pageable pageable);
+
+	@Query("SELECT i.id AS id, i.box.uuid AS boxUuid FROM Item i WHERE i.id IN :ids")
+	List<ItemLocation> findLocationsByIdIn(Collection<Long> ids);
+
+	/**
+	 * Moves the items in one statement. Also evicts the item and box-items cache regions.
+	 */
+	@Modifying
+	@Query("UPDATE Item i SET i.box = :box WHERE i.id IN :ids")
+	int moveToBox(Collection<Long> ids, Box box);
+
+	@Modifying
+	@Query("UPDATE Item i SET i.changeVersion = :changeVersion, i.updatedAt = :updatedAt WHERE i.id IN :ids")
+	int markChanged(Collection<Long> ids, long changeVersion, Instant updatedAt);
+
+	/**
+	 * Deletes all items of the given boxes in one statement. Unlike the database cascade, this also evicts
+	 * the item and box-items cache regions.
+	 */
+	@Modifying
+	@Query("DELETE FROM Item i WHERE i.box.id IN :boxIds")
+	int deleteByBoxIdIn(Collection<Long> boxIds);
 }
@@ -0,0 +1,30 @@
+package com.boxcopilot.backend.repository;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Helpers for the sparse fieldset queries of the projection repository fragments.
+ */
+final class Projections {
+
+    private Projections() {
+    }
+
+    /**
+     * Joins the select clause fragments of the fields. Only fragments from the fixed selection map end up
+     * in the query, never request input.
+     */
+    static String selectClause(Map<String, String> selections, Collection<String> fields) {
+        return fields.stream()
+            .map(field -> {
+                String selection = selections.get(field);
+                if (selection == null) {
+                    throw new IllegalArgumentException("Unsupported field: " + field);
+                }
+                return selection;
+            })
+            .collect(Collectors.joining(", "));
+    }
+}
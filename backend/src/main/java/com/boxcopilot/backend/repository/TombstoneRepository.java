@@ -0,0 +1,24 @@
+package com.boxcopilot.backend.repository;
+
+import com.boxcopilot.backend.domain.Tombstone;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Repository for tombstones of deleted boxes and items.
+ */
+public interface TombstoneRepository extends JpaRepository<Tombstone, Long> {
+
+    List<Tombstone> findByChangeVersionGreaterThan(long changeVersion);
+
+    @Query("SELECT MAX(t.changeVersion) FROM Tombstone t WHERE t.deletedAt < :cutoff")
+    Long findMaxChangeVersionDeletedBefore(Instant cutoff);
+
+    @Modifying
+    @Query("DELETE FROM Tombstone t WHERE t.changeVersion <= :changeVersion")
+    int deleteUpToChangeVersion(long changeVersion);
+}
@@ -2,12 +2,16 @@ package com.boxcopilot.backend.service;
 
 import com.boxcopilot.backend.domain.BoxNumberPool;
 import com.boxcopilot.backend.repository.BoxNumberPoolRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -15,14 +19,29 @@ import java.util.List;
  * Ensures thread-safe box number allocation and reuse of deleted numbers.
  */
 @Service
+@Observed(name = "boxcopilot.service")
 public class BoxNumberService {
 
     private static final Logger log = LoggerFactory.getLogger(BoxNumberService.class);
 
     private final BoxNumberPoolRepository poolRepository;
+    private final Counter allocatedFromPool;
+    private final Counter allocatedNew;
+    private final Counter released;
 
-    public BoxNumberService(BoxNumberPoolRepository poolRepository) {
+    public BoxNumberService(BoxNumberPoolRepository poolRepository, MeterRegistry meterRegistry) {
         this.poolRepository = poolRepository;
+        this.allocatedFromPool = Counter.builder("boxcopilot.box.numbers.allocated")
+                .description("Box numbers assigned to new boxes")
+                .tag("source", "pool")
+                .register(meterRegistry);
+        this.allocatedNew = Counter.builder("boxcopilot.box.numbers.allocated")
+                .description("Box numbers assigned to new boxes")
+                .tag("source", "new")
+                .register(meterRegistry);
+        this.released = Counter.builder("boxcopilot.box.numbers.released")
+                .description("Box numbers returned to the pool")
+                .register(meterRegistry);
     }
 
     /**
@@ -37,7 +56,8 @@ public class BoxNumberService {
                     pool.setIsAvailable(false);
                     pool.setLastUsedAt(Instant.now());
                     poolRepository.save(pool);
-                    log.info("Assigned box number {} from pool", pool.getBoxNumber());
+                    log.debug("Assigned box number {} from pool", pool.getBoxNumber());
+                    allocatedFromPool.increment();
                     return pool.getBoxNumber();
                 })
                 .orElseGet(this::createNewBoxNumber);
@@ -57,12 +77,29 @@ public class BoxNumberService {
                 pool -> {
                     pool.setIsAvailable(true);
                     poolRepository.save(pool);
-                    log.info("Released box number {} back to pool", boxNumber);
+                    log.debug("Released box number {} back to pool", boxNumber);
+                    released.increment();
                 },
                 () -> log.warn("Box number {} not found in pool during release", boxNumber)
         );
     }
 
+    /**
+     * Gibt mehrere Box-Nummern mit einem Statement zurück in den Pool (Bulk-Löschen)
+     */
+    @Transactional
+    public void releaseBoxNumbers(Collection<Integer> boxNumbers) {
+        if (boxNumbers.isEmpty()) {
+            return;
+        }
+        int releasedCount = poolRepository.releaseAll(boxNumbers);
+        if (releasedCount < boxNumbers.size()) {
+            log.warn("Only {} of {} box numbers found in pool during release", releasedCount, boxNumbers.size());
+        }
+        log.debug("Released {} box numbers back to pool", releasedCount);
+        released.increment(releasedCount);
+    }
+
     /**
      * Marks a specific box number as reserved/in use, creating the pool entry if necessary.
      */
@@ -107,7 +144,8 @@ public class BoxNumberService {
         pool.setCreatedAt(Instant.now());
         poolRepository.save(pool);
 
-        log.info("Created new box number {}", newNumber);
+        log.debug("Created new box number {}", newNumber);
+        allocatedNew.increment();
         return newNumber;
     }
 
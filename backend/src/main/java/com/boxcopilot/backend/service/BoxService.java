@@ -4,14 +4,26 @@ import com.boxcopilot.backend.domain.Box;
 import com.boxcopilot.backend.dto.BoxRequestDTO;
 import com.boxcopilot.backend.dto.BoxResponseDTO;
 import com.boxcopilot.backend.dto.BoxUpdateDTO;
+import com.boxcopilot.backend.dto.BulkOperationResultDTO;
 import com.boxcopilot.backend.mapper.BoxMapper;
+import com.boxcopilot.backend.repository.BoxReference;
 import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.ItemRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -20,18 +32,24 @@ import java.util.stream.Collectors;
  */
 @Service
 @Transactional
+@Observed(name = "boxcopilot.service")
 public class BoxService {
 
     private static final Logger log = LoggerFactory.getLogger(BoxService.class);
 
     private final BoxRepository boxRepository;
+    private final ItemRepository itemRepository;
     private final BoxMapper boxMapper;
     private final BoxNumberService boxNumberService;
+    private final ApplicationEventPublisher eventPublisher;
 
-    public BoxService(BoxRepository boxRepository, BoxMapper boxMapper, BoxNumberService boxNumberService) {
+    public BoxService(BoxRepository boxRepository, ItemRepository itemRepository, BoxMapper boxMapper,
+                      BoxNumberService boxNumberService, ApplicationEventPublisher eventPublisher) {
         this.boxRepository = boxRepository;
+        this.itemRepository = itemRepository;
         this.boxMapper = boxMapper;
         this.boxNumberService = boxNumberService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -47,6 +65,21 @@ public class BoxService {
         return boxes;
     }
 
+    /**
+     * Retrieves all boxes with only the requested fields (comma-separated, see BoxProjectionRepository.FIELDS).
+     * Only the columns of these fields are read, so e.g. descriptions are skipped unless requested.
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllBoxFields(String fields) {
+        List<String> selected = FieldSelection.parse(fields, BoxRepository.FIELDS);
+        log.debug("Service: Fetching all boxes with fields {}", selected);
+        List<Map<String, Object>> boxes = boxRepository.findAllWithFields(selected).stream()
+            .map(tuple -> boxMapper.toFieldMap(tuple, selected))
+            .collect(Collectors.toList());
+        log.debug("Service: Found {} boxes", boxes.size());
+        return boxes;
+    }
+
     /**
      * Finds a box by UUID.
      */
@@ -79,7 +112,7 @@ public class BoxService {
      * Creates a new box.
      */
     public BoxResponseDTO createBox(BoxRequestDTO requestDTO) {
-        log.info("Service: Creating box in room: {}", requestDTO.getCurrentRoom());
+        log.debug("Service: Creating box in room: {}", requestDTO.getCurrentRoom());
         Box box = boxMapper.toEntity(requestDTO);
         
         // Box-Nummer aus Pool holen
@@ -87,7 +120,8 @@ public class BoxService {
         box.setBoxNumber(boxNumber);
         
         Box savedBox = boxRepository.save(box);
-        log.info("Service: Box created with ID: {}, UUID: {}, Number: {}", savedBox.getId(), savedBox.getUuid(), boxNumber);
+        eventPublisher.publishEvent(InventoryChangedEvent.of(savedBox.getUuid()));
+        log.debug("Service: Box created with ID: {}, UUID: {}, Number: {}", savedBox.getId(), savedBox.getUuid(), boxNumber);
         return boxMapper.toResponseDTO(savedBox);
     }
 
@@ -95,24 +129,22 @@ public class BoxService {
      * Updates an existing box by ID.
      */
     public BoxResponseDTO updateBox(Long id, BoxUpdateDTO updateDTO) {
-        log.info("Service: Updating box with ID: {}", id);
-        Box box = boxRepository.findById(id)
-            .orElseThrow(() -> {
-                log.error("Cannot update - Box not found with ID: {}", id);
-                return new ResourceNotFoundException("Box not found with ID: " + id);
-            });
-        
-        boxMapper.updateEntity(box, updateDTO);
-        Box updatedBox = boxRepository.save(box);
-        log.info("Service: Box updated - ID: {}, UUID: {}", updatedBox.getId(), updatedBox.getUuid());
-        return boxMapper.toResponseDTO(updatedBox);
+        return boxMapper.toResponseDTO(update(id, updateDTO));
+    }
+
+    /**
+     * Updates an existing box by ID without building a response, so the items of the box are never loaded.
+     * For clients that send {@code Prefer: return=minimal}, e.g. when toggling a flag.
+     */
+    public void applyBoxUpdate(Long id, BoxUpdateDTO updateDTO) {
+        update(id, updateDTO);
     }
 
     /**
      * Deletes a box by ID.
      */
     public void deleteBox(Long id) {
-        log.info("Service: Deleting box with ID: {}", id);
+        log.debug("Service: Deleting box with ID: {}", id);
         Box box = boxRepository.findById(id)
                 .orElseThrow(() -> {
                     log.error("Cannot delete - Box not found with ID: {}", id);
@@ -121,9 +153,94 @@ public class BoxService {
         
         Integer boxNumber = box.getBoxNumber();
         boxRepository.deleteById(id);
+        eventPublisher.publishEvent(InventoryChangedEvent.boxDeleted(box.getUuid(), id));
         
         // Box-Nummer zurück in den Pool geben
         boxNumberService.releaseBoxNumber(boxNumber);
-        log.info("Service: Box with ID {} deleted successfully and number {} released", id, boxNumber);
+        log.debug("Service: Box with ID {} deleted successfully and number {} released", id, boxNumber);
+    }
+
+    /**
+     * Applies the non-null fields of the update to multiple boxes with one UPDATE statement per chunk of ids.
+     * Returns only which boxes were updated and which did not exist, without mapping any box.
+     */
+    public BulkOperationResultDTO updateBoxes(List<Long> boxIds, BoxUpdateDTO updateDTO) {
+        log.debug("Service: Updating {} boxes", boxIds.size());
+        Map<String, Object> attributes = boxMapper.toChangedAttributes(updateDTO);
+        Set<String> changedBoxUuids = new HashSet<>();
+        BulkOperationResultDTO result = forEachExistingChunk(boxIds, boxes -> {
+            boxRepository.updateAttributes(boxes.stream().map(BoxReference::getId).toList(), attributes);
+            boxes.forEach(box -> changedBoxUuids.add(box.getUuid()));
+        });
+        if (!changedBoxUuids.isEmpty()) {
+            eventPublisher.publishEvent(InventoryChangedEvent.boxes(changedBoxUuids));
+        }
+        log.debug("Service: Updated {} out of {} boxes", result.getProcessed(), result.getRequested());
+        return result;
+    }
+
+    /**
+     * Deletes multiple boxes with their items. Per chunk of ids, items and boxes are deleted with one statement each;
+     * the box numbers of all deleted boxes are released with a single statement.
+     */
+    public BulkOperationResultDTO deleteBoxes(List<Long> boxIds) {
+        log.debug("Service: Deleting {} boxes", boxIds.size());
+        Set<String> deletedBoxUuids = new HashSet<>();
+        List<Integer> boxNumbers = new ArrayList<>();
+        BulkOperationResultDTO result = forEachExistingChunk(boxIds, boxes -> {
+            List<Long> ids = boxes.stream().map(BoxReference::getId).toList();
+            itemRepository.deleteByBoxIdIn(ids);
+            boxRepository.deleteByIdIn(ids);
+            boxes.forEach(box -> deletedBoxUuids.add(box.getUuid()));
+            boxes.stream().map(BoxReference::getBoxNumber).filter(Objects::nonNull).forEach(boxNumbers::add);
+        });
+        if (!deletedBoxUuids.isEmpty()) {
+            eventPublisher.publishEvent(InventoryChangedEvent.boxesDeleted(deletedBoxUuids, result.getProcessedIds()));
+        }
+
+        // Box-Nummern zurück in den Pool geben
+        boxNumberService.releaseBoxNumbers(boxNumbers);
+        log.debug("Service: Deleted {} out of {} boxes and released {} numbers",
+            result.getProcessed(), result.getRequested(), boxNumbers.size());
+        return result;
+    }
+
+    private Box update(Long id, BoxUpdateDTO updateDTO) {
+        log.debug("Service: Updating box with ID: {}", id);
+        Box box = boxRepository.findById(id)
+            .orElseThrow(() -> {
+                log.error("Cannot update - Box not found with ID: {}", id);
+                return new ResourceNotFoundException("Box not found with ID: " + id);
+            });
+        
+        boxMapper.updateEntity(box, updateDTO);
+        Box updatedBox = boxRepository.save(box);
+        eventPublisher.publishEvent(InventoryChangedEvent.of(updatedBox.getUuid()));
+        log.debug("Service: Box updated - ID: {}, UUID: {}", updatedBox.getId(), updatedBox.getUuid());
+        return updatedBox;
+    }
+
+    /**
+     * Runs the action for each chunk of the existing boxes among the (deduplicated) ids and reports
+     * which ids were found.
+     */
+    private BulkOperationResultDTO forEachExistingChunk(List<Long> boxIds, Consumer<List<BoxReference>> action) {
+        List<Long> requestedIds = List.copyOf(new LinkedHashSet<>(boxIds));
+        List<Long> processedIds = new ArrayList<>();
+        for (int from = 0; from < requestedIds.size(); from += ItemService.BULK_CHUNK_SIZE) {
+            List<Long> chunk = requestedIds.subList(from, Math.min(from + ItemService.BULK_CHUNK_SIZE, requestedIds.size()));
+            List<BoxReference> boxes = boxRepository.findReferencesByIdIn(chunk);
+            if (!boxes.isEmpty()) {
+                action.accept(boxes);
+                boxes.forEach(box -> processedIds.add(box.getId()));
+            }
+        }
+
+        Set<Long> processed = new HashSet<>(processedIds);
+        List<Long> missingIds = requestedIds.stream().filter(id -> !processed.contains(id)).toList();
+        if (!missingIds.isEmpty()) {
+            log.warn("Service: {} of {} boxes were not found: {}", missingIds.size(), requestedIds.size(), missingIds);
+        }
+        return new BulkOperationResultDTO(requestedIds.size(), processedIds, missingIds);
     }
 }
@@ -0,0 +1,39 @@
+package com.boxcopilot.backend.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Parses the {@code fields=} parameter of list endpoints (sparse fieldsets).
+ */
+final class FieldSelection {
+
+    private FieldSelection() {
+    }
+
+    /**
+     * Returns the requested fields in request order without duplicates.
+     *
+     * @throws InvalidRequestException if no field or an unsupported field is requested
+     */
+    static List<String> parse(String fields, Set<String> supported) {
+        Set<String> requested = new LinkedHashSet<>();
+        if (fields != null) {
+            Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(field -> !field.isEmpty())
+                .forEach(requested::add);
+        }
+        if (requested.isEmpty()) {
+            throw new InvalidRequestException("At least one field must be requested, supported fields: " + supported);
+        }
+        List<String> unknown = requested.stream().filter(field -> !supported.contains(field)).toList();
+        if (!unknown.isEmpty()) {
+            throw new InvalidRequestException("Unknown fields " + unknown + ", supported fields: " + supported);
+        }
+        return new ArrayList<>(requested);
+    }
+}
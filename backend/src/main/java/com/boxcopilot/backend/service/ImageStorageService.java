@@ -1,6 +1,8 @@
 package com.boxcopilot.backend.service;
 
 import com.boxcopilot.backend.exception.FileStorageException;
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.ObservationRegistry;
 import net.coobird.thumbnailator.Thumbnails;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -18,6 +20,7 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.util.concurrent.Semaphore;
 
 /**
  * Service for handling image storage operations.
@@ -31,18 +34,38 @@ public class ImageStorageService {
     private static final int LARGE_SIZE = 1024;
     private static final String THUMBNAIL_SUFFIX = "_thumb.jpg";
     private static final String LARGE_SUFFIX = "_large.jpg";
+    private static final String PROCESSING_OBSERVATION = "boxcopilot.image.processing";
+
+    private final ObservationRegistry observationRegistry;
     
     @Value("${app.image.storage.path}")
     private String storagePath;
+
+    @Value("${app.image.processing.max-concurrent:0}")
+    private int maxConcurrentProcessing;
     
     private Path storageLocation;
 
+    /**
+     * Bounds concurrent decode/resize work. With virtual threads every upload gets its own thread,
+     * so without this limit a burst of uploads could decode dozens of full-size photos at once.
+     */
+    private Semaphore processingPermits;
+
+    public ImageStorageService(ObservationRegistry observationRegistry) {
+        this.observationRegistry = observationRegistry;
+    }
+
     @PostConstruct
     public void init() {
         try {
             this.storageLocation = Paths.get(storagePath).toAbsolutePath().normalize();
             Files.createDirectories(this.storageLocation);
-            log.info("Image storage initialized at: {}", this.storageLocation);
+            int permits = maxConcurrentProcessing > 0
+                ? maxConcurrentProcessing
+                : Runtime.getRuntime().availableProcessors();
+            this.processingPermits = new Semaphore(permits);
+            log.info("Image storage initialized at: {} (max {} concurrent image jobs)", this.storageLocation, permits);
         } catch (IOException e) {
             log.error("Failed to create image storage directory", e);
             throw new FileStorageException("Failed to create image storage directory", e);
@@ -51,13 +74,15 @@ public class ImageStorageService {
 
     /**
      * Saves an uploaded image in two versions: thumbnail (200x200px) and large (1024px).
+     * Each rendition is processed (decode, resize, JPEG encode) and written separately;
+     * both steps are timed per rendition (boxcopilot.image.processing).
      *
      * @param itemId The ID of the item
      * @param file The uploaded image file
      * @return The relative path to the stored thumbnail
      */
     public String saveImage(Long itemId, MultipartFile file) {
-        log.info("Saving image for item ID: {}", itemId);
+        log.debug("Saving image for item ID: {}", itemId);
         
         if (file.isEmpty()) {
             throw new FileStorageException("Cannot upload empty file");
@@ -69,6 +94,12 @@ public class ImageStorageService {
             throw new FileStorageException("File must be an image");
         }
         
+        try {
+            processingPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new FileStorageException("Interrupted while waiting to process image", e);
+        }
         try {
             // Save thumbnail (200x200, center-crop)
             String thumbFilename = itemId + THUMBNAIL_SUFFIX;
@@ -80,17 +111,20 @@ public class ImageStorageService {
             }
             
             ByteArrayOutputStream thumbStream = new ByteArrayOutputStream();
-            Thumbnails.of(file.getInputStream())
-                    .size(THUMBNAIL_SIZE, THUMBNAIL_SIZE)
-                    .outputFormat("jpg")
-                    .outputQuality(0.9)
-                    .toOutputStream(thumbStream);
+            observePhase("process", "thumbnail", () -> {
+                Thumbnails.of(file.getInputStream())
+                        .size(THUMBNAIL_SIZE, THUMBNAIL_SIZE)
+                        .outputFormat("jpg")
+                        .outputQuality(0.9)
+                        .toOutputStream(thumbStream);
+                return null;
+            });
             
-            Files.copy(
+            observePhase("write", "thumbnail", () -> Files.copy(
                 new ByteArrayInputStream(thumbStream.toByteArray()),
                 thumbPath,
                 StandardCopyOption.REPLACE_EXISTING
-            );
+            ));
             
             // Save large version (1024px max dimension, keep aspect ratio)
             String largeFilename = itemId + LARGE_SUFFIX;
@@ -101,27 +135,41 @@ public class ImageStorageService {
             }
             
             ByteArrayOutputStream largeStream = new ByteArrayOutputStream();
-            Thumbnails.of(file.getInputStream())
-                    .size(LARGE_SIZE, LARGE_SIZE)
-                    .outputFormat("jpg")
-                    .outputQuality(0.85)
-                    .toOutputStream(largeStream);
+            observePhase("process", "large", () -> {
+                Thumbnails.of(file.getInputStream())
+                        .size(LARGE_SIZE, LARGE_SIZE)
+                        .outputFormat("jpg")
+                        .outputQuality(0.85)
+                        .toOutputStream(largeStream);
+                return null;
+            });
             
-            Files.copy(
+            observePhase("write", "large", () -> Files.copy(
                 new ByteArrayInputStream(largeStream.toByteArray()),
                 largePath,
                 StandardCopyOption.REPLACE_EXISTING
-            );
+            ));
             
-            log.info("Images saved successfully: {} and {}", thumbFilename, largeFilename);
+            log.debug("Images saved successfully: {} and {}", thumbFilename, largeFilename);
             return thumbFilename;
             
         } catch (IOException e) {
             log.error("Failed to save image for item ID: {}", itemId, e);
             throw new FileStorageException("Failed to save image", e);
+        } finally {
+            processingPermits.release();
         }
     }
 
+    private <T> T observePhase(String phase, String rendition,
+                               Observation.CheckedCallable<T, IOException> action) throws IOException {
+        return Observation.createNotStarted(PROCESSING_OBSERVATION, observationRegistry)
+                .contextualName("image " + phase)
+                .lowCardinalityKeyValue("phase", phase)
+                .lowCardinalityKeyValue("rendition", rendition)
+                .observeChecked(action);
+    }
+
     /**
      * Retrieves the thumbnail image by item ID.
      *
@@ -202,7 +250,7 @@ public class ImageStorageService {
             }
             
             Files.deleteIfExists(filePath);
-            log.info("Thumbnail deleted: {}", imagePath);
+            log.debug("Thumbnail deleted: {}", imagePath);
             
             // Delete large version (derive filename from thumbnail path)
             String largeFilename = imagePath.replace(THUMBNAIL_SUFFIX, LARGE_SUFFIX);
@@ -210,7 +258,7 @@ public class ImageStorageService {
             
             if (largeFilePath.startsWith(this.storageLocation)) {
                 Files.deleteIfExists(largeFilePath);
-                log.info("Large image deleted: {}", largeFilename);
+                log.debug("Large image deleted: {}", largeFilename);
             }
         } catch (IOException e) {
             log.error("Failed to delete image: {}", imagePath, e);
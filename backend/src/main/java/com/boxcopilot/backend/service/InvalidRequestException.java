@@ -0,0 +1,12 @@
+package com.boxcopilot.backend.service;
+
+/**
+ * Exception for requests that are well-formed but ask for something unsupported, e.g. an unknown field.
+ * Mapped to 400 Bad Request.
+ */
+public class InvalidRequestException extends RuntimeException {
+
+    public InvalidRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,11 @@
+package com.boxcopilot.backend.service;
+
+/**
+ * Delivers committed inventory changes to the {@link InventoryChangeSubscriber}s of every backend instance.
+ * In production the changes are fanned out through Redis pub/sub (RedisInventoryChangeBus);
+ * otherwise they go straight to the local subscribers.
+ */
+public interface InventoryChangeBus {
+
+    void publish(InventoryChangedEvent change);
+}
@@ -0,0 +1,148 @@
+package com.boxcopilot.backend.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Server-sent event subscribers of this instance. Each committed change is sent as one compact
+ * {@code inventory-changed} event (box UUIDs, item IDs and deleted IDs); clients fetch the details
+ * through delta sync. A periodic comment keeps idle connections open through proxies.
+ * Every subscriber has its own queue, drained on a virtual thread, so a slow client neither delays the
+ * request that made the change nor the other clients. A client that falls {@value #MAX_PENDING} events
+ * behind is dropped; it reconnects and catches up through delta sync.
+ */
+@Service
+public class InventoryChangeStream implements InventoryChangeSubscriber {
+
+    static final String EVENT_NAME = "inventory-changed";
+
+    static final int MAX_PENDING = 32;
+
+    private static final Logger log = LoggerFactory.getLogger(InventoryChangeStream.class);
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final Duration timeout;
+    private final ScheduledExecutorService heartbeat;
+    private final ExecutorService sender = Executors.newThreadPerTaskExecutor(
+        Thread.ofVirtual().name("sse-sender-", 0).factory());
+
+    public InventoryChangeStream(MeterRegistry meterRegistry,
+                                 @Value("${app.events.timeout:30m}") Duration timeout,
+                                 @Value("${app.events.heartbeat:25s}") Duration heartbeatInterval) {
+        this.timeout = timeout;
+        this.heartbeat = Executors.newSingleThreadScheduledExecutor(Thread.ofVirtual().name("sse-heartbeat").factory());
+        this.heartbeat.scheduleAtFixedRate(this::sendHeartbeat,
+            heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        Gauge.builder("boxcopilot.events.subscribers", subscribers, List::size)
+            .description("Connected server-sent event subscribers")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Registers a new subscriber. The client reconnects on its own once the emitter times out.
+     */
+    public SseEmitter subscribe() {
+        return register(new SseEmitter(timeout.toMillis()));
+    }
+
+    SseEmitter register(SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(emitter);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+        emitter.onError(e -> subscribers.remove(subscriber));
+        subscribers.add(subscriber);
+        log.debug("SSE subscriber connected ({} total)", subscribers.size());
+        return emitter;
+    }
+
+    @Override
+    public void onInventoryChange(InventoryChangedEvent change) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event()
+            .name(EVENT_NAME)
+            .data(change, MediaType.APPLICATION_JSON);
+        subscribers.forEach(subscriber -> subscriber.enqueue(event));
+    }
+
+    private void sendHeartbeat() {
+        SseEmitter.SseEventBuilder comment = SseEmitter.event().comment("keep-alive");
+        subscribers.forEach(subscriber -> subscriber.enqueue(comment));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeat.shutdownNow();
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * One connected client: a bounded queue of events and at most one drain task sending them in order.
+     */
+    private final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final Queue<SseEmitter.SseEventBuilder> pending = new ArrayBlockingQueue<>(MAX_PENDING);
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        void enqueue(SseEmitter.SseEventBuilder event) {
+            if (!pending.offer(event)) {
+                log.debug("Dropping SSE subscriber that is {} events behind", MAX_PENDING);
+                // Completing may wait for the stuck send, so it runs on a sender thread as well
+                subscribers.remove(this);
+                sender.execute(() -> emitter.completeWithError(new IOException("Subscriber too slow")));
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                sender.execute(this::drain);
+            }
+        }
+
+        private void drain() {
+            do {
+                SseEmitter.SseEventBuilder event;
+                while ((event = pending.poll()) != null) {
+                    if (!send(event)) {
+                        return;
+                    }
+                }
+                draining.set(false);
+                // An event enqueued between the last poll and the reset would otherwise wait for the next one
+            } while (!pending.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        private boolean send(SseEmitter.SseEventBuilder event) {
+            try {
+                emitter.send(event);
+                return true;
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; completing triggers the removal callback
+                subscribers.remove(this);
+                emitter.completeWithError(e);
+                return false;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.boxcopilot.backend.service;
+
+/**
+ * Receives committed inventory changes from the {@link InventoryChangeBus}, including changes made on other
+ * backend instances. Implementations must not block, as they run on the committing thread or the Redis listener.
+ */
+public interface InventoryChangeSubscriber {
+
+    void onInventoryChange(InventoryChangedEvent change);
+}
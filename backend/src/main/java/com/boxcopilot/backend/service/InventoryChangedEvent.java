@@ -0,0 +1,50 @@
+package com.boxcopilot.backend.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * Published inside the changing transaction whenever a box or its items change.
+ * InventoryVersionService bumps the ETag versions and records sync changes before commit; listeners that keep
+ * derived copies (the public preview cache) react after the transaction commits.
+ *
+ * @param boxUuids       UUIDs of every box whose content changed, e.g. source and target box of a move
+ * @param itemIds        IDs of changed (created, updated or moved) items
+ * @param deletedBoxIds  IDs of deleted boxes; their items are deleted with them
+ * @param deletedItemIds IDs of items deleted on their own
+ */
+public record InventoryChangedEvent(Set<String> boxUuids, Set<Long> itemIds,
+                                    Set<Long> deletedBoxIds, Set<Long> deletedItemIds) {
+
+    /**
+     * Whether this is a change of items only, which leaves the boxes themselves untouched.
+     */
+    public boolean changesItemsOnly() {
+        return !itemIds.isEmpty() || !deletedItemIds.isEmpty();
+    }
+
+    public static InventoryChangedEvent of(String... boxUuids) {
+        return boxes(Arrays.asList(boxUuids));
+    }
+
+    public static InventoryChangedEvent boxes(Collection<String> boxUuids) {
+        return new InventoryChangedEvent(Set.copyOf(boxUuids), Set.of(), Set.of(), Set.of());
+    }
+
+    public static InventoryChangedEvent items(Collection<String> boxUuids, Collection<Long> itemIds) {
+        return new InventoryChangedEvent(Set.copyOf(boxUuids), Set.copyOf(itemIds), Set.of(), Set.of());
+    }
+
+    public static InventoryChangedEvent boxDeleted(String boxUuid, Long boxId) {
+        return new InventoryChangedEvent(Set.of(boxUuid), Set.of(), Set.of(boxId), Set.of());
+    }
+
+    public static InventoryChangedEvent boxesDeleted(Collection<String> boxUuids, Collection<Long> boxIds) {
+        return new InventoryChangedEvent(Set.copyOf(boxUuids), Set.of(), Set.copyOf(boxIds), Set.of());
+    }
+
+    public static InventoryChangedEvent itemDeleted(String boxUuid, Long itemId) {
+        return new InventoryChangedEvent(Set.of(boxUuid), Set.of(), Set.of(), Set.of(itemId));
+    }
+}
@@ -0,0 +1,123 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.Tombstone;
+import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.BoxVersion;
+import com.boxcopilot.backend.repository.InventoryVersionRepository;
+import com.boxcopilot.backend.repository.ItemRepository;
+import com.boxcopilot.backend.repository.TombstoneRepository;
+import jakarta.persistence.CacheRetrieveMode;
+import jakarta.persistence.EntityManager;
+import org.hibernate.jpa.SpecHints;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Maintains the versions behind the ETags of the authenticated box and item endpoints:
+ * the version of each box (also bumped when only its items change) and the global inventory version.
+ * Changed boxes and items are stamped with the new inventory version and deletions leave tombstones,
+ * which is what delta sync reads. Everything happens inside the changing transaction, so a version never
+ * becomes visible before its data; the row lock on the counter orders committing writers by version.
+ */
+@Service
+public class InventoryVersionService {
+
+    // Up to this many changed boxes and items are stamped through the entities, which keeps their cache entries;
+    // more are stamped with chunked UPDATE statements
+    private static final int ENTITY_STAMP_LIMIT = 20;
+    private static final int BULK_STAMP_CHUNK_SIZE = 1000;
+    private static final Map<String, Object> BYPASS_CACHE =
+        Map.of(SpecHints.HINT_SPEC_CACHE_RETRIEVE_MODE, CacheRetrieveMode.BYPASS);
+
+    private final BoxRepository boxRepository;
+    private final ItemRepository itemRepository;
+    private final InventoryVersionRepository inventoryVersionRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final EntityManager entityManager;
+
+    public InventoryVersionService(BoxRepository boxRepository, ItemRepository itemRepository,
+                                   InventoryVersionRepository inventoryVersionRepository,
+                                   TombstoneRepository tombstoneRepository, EntityManager entityManager) {
+        this.boxRepository = boxRepository;
+        this.itemRepository = itemRepository;
+        this.inventoryVersionRepository = inventoryVersionRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public long getInventoryVersion() {
+        return inventoryVersionRepository.findCurrentVersion();
+    }
+
+    /**
+     * Version of the box with the given UUID, or empty if there is no such box.
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> getBoxVersion(String uuid) {
+        return boxRepository.findVersionByUuid(uuid);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        // Row locks are taken before the counter lock, in the same order by every writer. The box rows come first;
+        // every change names the boxes of its items, so writers of the same items queue up here as well.
+        // Nothing is flushed before the boxes are stamped, so a changed box is written with one version increment
+        List<String> boxUuids = List.copyOf(event.boxUuids());
+        List<BoxVersion> lockedBoxes = new ArrayList<>();
+        forEachChunk(boxUuids, chunk -> lockedBoxes.addAll(boxRepository.lockByUuidIn(chunk)));
+
+        inventoryVersionRepository.increment();
+        long changeVersion = inventoryVersionRepository.findCurrentVersion();
+
+        // Marking makes the entities dirty: the flush increments the box versions and the commit refreshes the
+        // second-level cache entries. Boxes deleted in this transaction are not found
+        Instant now = Instant.now();
+        if (lockedBoxes.size() > ENTITY_STAMP_LIMIT) {
+            forEachChunk(boxUuids, chunk -> boxRepository.markChanged(chunk, changeVersion, now));
+        } else {
+            lockedBoxes.forEach(locked -> findCurrent(locked, event.changesItemsOnly())
+                .ifPresent(box -> box.markChanged(changeVersion)));
+        }
+        if (event.itemIds().size() > ENTITY_STAMP_LIMIT) {
+            // Bulk changes (e.g. bulk moves) are stamped set-based instead of loading every item
+            forEachChunk(List.copyOf(event.itemIds()), chunk -> itemRepository.markChanged(chunk, changeVersion, now));
+        } else if (!event.itemIds().isEmpty()) {
+            itemRepository.findAllById(event.itemIds()).forEach(item -> item.markChanged(changeVersion));
+        }
+        event.deletedBoxIds().forEach(id ->
+            tombstoneRepository.save(new Tombstone(Tombstone.EntityType.BOX, id, changeVersion)));
+        event.deletedItemIds().forEach(id ->
+            tombstoneRepository.save(new Tombstone(Tombstone.EntityType.ITEM, id, changeVersion)));
+    }
+
+    /**
+     * The managed box for a locked row. A box not yet loaded in this transaction is read from the database, since
+     * bulk updates bypass the entities and the cache. A box read before a concurrent writer of it committed carries
+     * an older version; when only items changed it has no changes of its own and is refreshed, otherwise the flush
+     * fails the version check as a concurrent edit of the box should.
+     */
+    private Optional<Box> findCurrent(BoxVersion locked, boolean boxUnchanged) {
+        Box box = entityManager.find(Box.class, locked.getId(), BYPASS_CACHE);
+        if (box != null && boxUnchanged && box.getVersion() < locked.getVersion()) {
+            entityManager.refresh(box);
+        }
+        return Optional.ofNullable(box);
+    }
+
+    private static <T> void forEachChunk(List<T> values, Consumer<List<T>> action) {
+        for (int from = 0; from < values.size(); from += BULK_STAMP_CHUNK_SIZE) {
+            action.accept(values.subList(from, Math.min(from + BULK_STAMP_CHUNK_SIZE, values.size())));
+        }
+    }
+}
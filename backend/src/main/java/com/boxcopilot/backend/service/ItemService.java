@@ -2,22 +2,33 @@ package com.boxcopilot.backend.service;
 
 import com.boxcopilot.backend.domain.Box;
 import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.dto.BulkOperationResultDTO;
 import com.boxcopilot.backend.dto.ItemRequestDTO;
 import com.boxcopilot.backend.dto.ItemResponseDTO;
 import com.boxcopilot.backend.dto.ItemUpdateDTO;
 import com.boxcopilot.backend.mapper.ItemMapper;
 import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.ItemLocation;
 import com.boxcopilot.backend.repository.ItemRepository;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import jakarta.annotation.PostConstruct;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.io.Resource;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -26,26 +37,30 @@ import java.util.stream.Collectors;
  */
 @Service
 @Transactional
+@Observed(name = "boxcopilot.service")
 public class ItemService {
 
     private static final Logger log = LoggerFactory.getLogger(ItemService.class);
+    private static final int IMAGE_TOKEN_BACKFILL_BATCH_SIZE = 500;
+    // Ids per IN list of set-based bulk statements, well below the bind parameter limits of H2 and PostgreSQL
+    static final int BULK_CHUNK_SIZE = 1000;
 
     private final ItemRepository itemRepository;
     private final BoxRepository boxRepository;
     private final ItemMapper itemMapper;
     private final ImageStorageService imageStorageService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ItemService(ItemRepository itemRepository, BoxRepository boxRepository, 
-                      ItemMapper itemMapper, ImageStorageService imageStorageService) {
+                      ItemMapper itemMapper, ImageStorageService imageStorageService,
+                      TransactionTemplate transactionTemplate, ApplicationEventPublisher eventPublisher) {
         this.itemRepository = itemRepository;
         this.boxRepository = boxRepository;
         this.itemMapper = itemMapper;
         this.imageStorageService = imageStorageService;
-    }
-
-    @PostConstruct
-    public void initImageTokens() {
-        ensureImageTokens();
+        this.transactionTemplate = transactionTemplate;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -62,6 +77,20 @@ public class ItemService {
         return items;
     }
 
+    /**
+     * Retrieves all items with only the requested fields (comma-separated, see ItemProjectionRepository.FIELDS).
+     */
+    @Transactional(readOnly = true)
+    public List<Map<String, Object>> getAllItemFields(String fields) {
+        List<String> selected = FieldSelection.parse(fields, ItemRepository.FIELDS);
+        log.debug("Service: Fetching all items with fields {}", selected);
+        List<Map<String, Object>> items = itemRepository.findAllWithFields(selected).stream()
+            .map(tuple -> itemMapper.toFieldMap(tuple, selected))
+            .collect(Collectors.toList());
+        log.debug("Service: Found {} items", items.size());
+        return items;
+    }
+
     /**
      * Retrieves items by box UUID.
      */
@@ -84,7 +113,7 @@ public class ItemService {
      * Creates a new item.
      */
     public ItemResponseDTO createItem(ItemRequestDTO requestDTO) {
-        log.info("Service: Creating item '{}' in box ID: {}", requestDTO.getName(), requestDTO.getBoxId());
+        log.debug("Service: Creating item '{}' in box ID: {}", requestDTO.getName(), requestDTO.getBoxId());
         Box box = boxRepository.findById(requestDTO.getBoxId())
             .orElseThrow(() -> {
                 log.error("Cannot create item - Box not found with ID: {}", requestDTO.getBoxId());
@@ -98,15 +127,44 @@ public class ItemService {
         }
         
         Item savedItem = itemRepository.save(item);
-        log.info("Service: Item created with ID: {}, Name: {}", savedItem.getId(), savedItem.getName());
+        publishChanged(savedItem);
+        log.debug("Service: Item created with ID: {}, Name: {}", savedItem.getId(), savedItem.getName());
         return itemMapper.toResponseDTO(savedItem);
     }
 
+    /**
+     * Creates several items in one box. Items get their ids from the pooled sequence, so the inserts are
+     * sent as JDBC batches instead of one round trip per item.
+     */
+    public List<ItemResponseDTO> createItems(Long boxId, List<String> names) {
+        log.debug("Service: Creating {} items in box ID: {}", names.size(), boxId);
+        Box box = boxRepository.findById(boxId)
+            .orElseThrow(() -> {
+                log.error("Cannot create items - Box not found with ID: {}", boxId);
+                return new ResourceNotFoundException("Box not found with ID: " + boxId);
+            });
+
+        List<Item> items = new ArrayList<>(names.size());
+        for (String name : names) {
+            Item item = new Item(box, name.trim());
+            item.setImageToken(UUID.randomUUID().toString());
+            items.add(item);
+        }
+
+        List<Item> savedItems = itemRepository.saveAll(items);
+        eventPublisher.publishEvent(InventoryChangedEvent.items(List.of(box.getUuid()),
+            savedItems.stream().map(Item::getId).toList()));
+        log.debug("Service: Created {} items in box ID: {}", savedItems.size(), boxId);
+        return savedItems.stream()
+            .map(itemMapper::toResponseDTO)
+            .collect(Collectors.toList());
+    }
+
     /**
      * Updates an existing item.
      */
     public ItemResponseDTO updateItem(Long id, ItemUpdateDTO updateDTO) {
-        log.info("Service: Updating item with ID: {}", id);
+        log.debug("Service: Updating item with ID: {}", id);
         Item item = itemRepository.findById(id)
             .orElseThrow(() -> {
                 log.error("Cannot update - Item not found with ID: {}", id);
@@ -115,7 +173,8 @@ public class ItemService {
         
         itemMapper.updateEntity(item, updateDTO);
         Item updatedItem = itemRepository.save(item);
-        log.info("Service: Item updated - ID: {}, Name: {}", updatedItem.getId(), updatedItem.getName());
+        publishChanged(updatedItem);
+        log.debug("Service: Item updated - ID: {}, Name: {}", updatedItem.getId(), updatedItem.getName());
         return itemMapper.toResponseDTO(updatedItem);
     }
 
@@ -124,7 +183,7 @@ public class ItemService {
      * Also deletes associated image if present.
      */
     public void deleteItem(Long id) {
-        log.info("Service: Deleting item with ID: {}", id);
+        log.debug("Service: Deleting item with ID: {}", id);
         Item item = itemRepository.findById(id)
             .orElseThrow(() -> {
                 log.error("Cannot delete - Item not found with ID: {}", id);
@@ -135,14 +194,15 @@ public class ItemService {
         if (item.getImagePath() != null && !item.getImagePath().isBlank()) {
             try {
                 imageStorageService.deleteImage(item.getImagePath());
-                log.info("Service: Deleted image for item ID: {}", id);
+                log.debug("Service: Deleted image for item ID: {}", id);
             } catch (Exception e) {
                 log.warn("Service: Failed to delete image for item ID: {}, continuing with item deletion", id, e);
             }
         }
         
         itemRepository.deleteById(id);
-        log.info("Service: Item with ID {} deleted successfully", id);
+        eventPublisher.publishEvent(InventoryChangedEvent.itemDeleted(item.getBox().getUuid(), id));
+        log.debug("Service: Item with ID {} deleted successfully", id);
     }
 
     /**
@@ -174,7 +234,7 @@ public class ItemService {
      * Uploads and saves an image for an item.
      */
     public ItemResponseDTO uploadImage(Long itemId, MultipartFile file) {
-        log.info("Service: Uploading image for item ID: {}", itemId);
+        log.debug("Service: Uploading image for item ID: {}", itemId);
         Item item = itemRepository.findById(itemId)
             .orElseThrow(() -> {
                 log.error("Cannot upload image - Item not found with ID: {}", itemId);
@@ -196,8 +256,9 @@ public class ItemService {
         item.setImagePath(imagePath);
         item.setImageUpdatedAt(System.currentTimeMillis());
         Item savedItem = itemRepository.save(item);
+        publishChanged(savedItem);
         
-        log.info("Service: Image uploaded successfully for item ID: {}", itemId);
+        log.debug("Service: Image uploaded successfully for item ID: {}", itemId);
         return itemMapper.toResponseDTO(savedItem);
     }
     
@@ -205,7 +266,7 @@ public class ItemService {
      * Deletes the image associated with an item (requires authentication).
      */
     public ItemResponseDTO deleteImage(Long itemId) {
-        log.info("Service: Deleting image for item ID: {}", itemId);
+        log.debug("Service: Deleting image for item ID: {}", itemId);
         Item item = itemRepository.findById(itemId)
             .orElseThrow(() -> {
                 log.error("Cannot delete image - Item not found with ID: {}", itemId);
@@ -217,7 +278,8 @@ public class ItemService {
             item.setImagePath(null);
             item.setImageUpdatedAt(null);
             Item savedItem = itemRepository.save(item);
-            log.info("Service: Image deleted successfully for item ID: {}", itemId);
+            publishChanged(savedItem);
+            log.debug("Service: Image deleted successfully for item ID: {}", itemId);
             return itemMapper.toResponseDTO(savedItem);
         } else {
             log.debug("Service: No image to delete for item ID: {}", itemId);
@@ -229,7 +291,7 @@ public class ItemService {
      * Moves an item to a different box.
      */
     public ItemResponseDTO moveItem(Long itemId, Long targetBoxId) {
-        log.info("Service: Moving item ID: {} to box ID: {}", itemId, targetBoxId);
+        log.debug("Service: Moving item ID: {} to box ID: {}", itemId, targetBoxId);
         Item item = itemRepository.findById(itemId)
             .orElseThrow(() -> {
                 log.error("Cannot move - Item not found with ID: {}", itemId);
@@ -242,36 +304,53 @@ public class ItemService {
                 return new ResourceNotFoundException("Box not found with ID: " + targetBoxId);
             });
         
+        String sourceBoxUuid = item.getBox().getUuid();
         item.setBox(targetBox);
         Item savedItem = itemRepository.save(item);
-        log.info("Service: Item ID: {} moved to box ID: {}", itemId, targetBoxId);
+        eventPublisher.publishEvent(InventoryChangedEvent.items(List.of(sourceBoxUuid, targetBox.getUuid()), List.of(itemId)));
+        log.debug("Service: Item ID: {} moved to box ID: {}", itemId, targetBoxId);
         return itemMapper.toResponseDTO(savedItem);
     }
     
     /**
-     * Moves multiple items to a different box.
+     * Moves multiple items to a different box with set-based statements: per chunk of ids, one query
+     * finds the existing items and one UPDATE moves them, so the cost does not grow with a round trip per item.
+     * Ids that do not exist are reported instead of failing the whole move.
      */
-    public void moveItems(List<Long> itemIds, Long targetBoxId) {
-        log.info("Service: Moving {} items to box ID: {}", itemIds.size(), targetBoxId);
+    public BulkOperationResultDTO moveItems(List<Long> itemIds, Long targetBoxId) {
+        log.debug("Service: Moving {} items to box ID: {}", itemIds.size(), targetBoxId);
         Box targetBox = boxRepository.findById(targetBoxId)
             .orElseThrow(() -> {
                 log.error("Cannot move - Target box not found with ID: {}", targetBoxId);
                 return new ResourceNotFoundException("Box not found with ID: " + targetBoxId);
             });
-        
-        int movedCount = 0;
-        for (Long itemId : itemIds) {
-            try {
-                Item item = itemRepository.findById(itemId)
-                    .orElseThrow(() -> new ResourceNotFoundException("Item not found with ID: " + itemId));
-                item.setBox(targetBox);
-                itemRepository.save(item);
-                movedCount++;
-            } catch (Exception e) {
-                log.warn("Service: Failed to move item ID: {}", itemId, e);
+
+        List<Long> requestedIds = List.copyOf(new LinkedHashSet<>(itemIds));
+        List<Long> movedItemIds = new ArrayList<>();
+        Set<String> changedBoxUuids = new HashSet<>();
+        changedBoxUuids.add(targetBox.getUuid());
+        for (int from = 0; from < requestedIds.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = requestedIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, requestedIds.size()));
+            List<ItemLocation> locations = itemRepository.findLocationsByIdIn(chunk);
+            if (locations.isEmpty()) {
+                continue;
             }
+            List<Long> existingIds = locations.stream().map(ItemLocation::getId).toList();
+            locations.forEach(location -> changedBoxUuids.add(location.getBoxUuid()));
+            itemRepository.moveToBox(existingIds, targetBox);
+            movedItemIds.addAll(existingIds);
+        }
+
+        Set<Long> moved = new HashSet<>(movedItemIds);
+        List<Long> missingIds = requestedIds.stream().filter(id -> !moved.contains(id)).toList();
+        if (!missingIds.isEmpty()) {
+            log.warn("Service: {} of {} items to move were not found: {}", missingIds.size(), requestedIds.size(), missingIds);
+        }
+        if (!movedItemIds.isEmpty()) {
+            eventPublisher.publishEvent(InventoryChangedEvent.items(changedBoxUuids, movedItemIds));
         }
-        log.info("Service: Successfully moved {} out of {} items to box ID: {}", movedCount, itemIds.size(), targetBoxId);
+        log.debug("Service: Successfully moved {} out of {} items to box ID: {}", movedItemIds.size(), requestedIds.size(), targetBoxId);
+        return new BulkOperationResultDTO(requestedIds.size(), movedItemIds, missingIds);
     }
 
     /**
@@ -310,20 +389,36 @@ public class ItemService {
 
     /**
      * Backfill missing image tokens (for legacy items without tokens).
+     * Invoked by StartupMaintenanceRunner before the application reports readiness. Only rows with a missing token
+     * are read, in chunks that are each flushed and committed separately, so the common case is a single
+     * empty query regardless of the item count.
      */
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void ensureImageTokens() {
-        List<Item> items = itemRepository.findAll().stream()
-            .filter(i -> i.getImageToken() == null || i.getImageToken().isBlank())
-            .toList();
-        if (items.isEmpty()) {
-            return;
-        }
-        for (Item item : items) {
-            item.setImageToken(UUID.randomUUID().toString());
+        int backfilled = 0;
+        int batchSize;
+        do {
+            batchSize = transactionTemplate.execute(status -> {
+                List<Item> batch = itemRepository.findWithoutImageToken(
+                    PageRequest.of(0, IMAGE_TOKEN_BACKFILL_BATCH_SIZE));
+                for (Item item : batch) {
+                    item.setImageToken(UUID.randomUUID().toString());
+                }
+                itemRepository.saveAllAndFlush(batch);
+                eventPublisher.publishEvent(InventoryChangedEvent.items(
+                    batch.stream().map(item -> item.getBox().getUuid()).collect(Collectors.toSet()),
+                    batch.stream().map(Item::getId).toList()));
+                return batch.size();
+            });
+            backfilled += batchSize;
+        } while (batchSize == IMAGE_TOKEN_BACKFILL_BATCH_SIZE);
+
+        if (backfilled > 0) {
+            log.info("Backfilled image tokens for {} items", backfilled);
         }
-        itemRepository.saveAll(items);
-        log.info("Backfilled image tokens for {} items", items.size());
     }
-}
 
+    private void publishChanged(Item item) {
+        eventPublisher.publishEvent(InventoryChangedEvent.items(List.of(item.getBox().getUuid()), List.of(item.getId())));
+    }
+}
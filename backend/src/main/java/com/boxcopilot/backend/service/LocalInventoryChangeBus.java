@@ -0,0 +1,32 @@
+package com.boxcopilot.backend.service;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+
+/**
+ * Single-instance bus: broadcasts to the subscribers of this instance only.
+ */
+@Component
+@Profile("!prod")
+public class LocalInventoryChangeBus implements InventoryChangeBus {
+
+    private final List<InventoryChangeSubscriber> subscribers;
+
+    public LocalInventoryChangeBus(List<InventoryChangeSubscriber> subscribers) {
+        this.subscribers = subscribers;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        publish(event);
+    }
+
+    @Override
+    public void publish(InventoryChangedEvent change) {
+        subscribers.forEach(subscriber -> subscriber.onInventoryChange(change));
+    }
+}
@@ -6,6 +6,9 @@ import com.boxcopilot.backend.dto.CreateMagicLinkRequestDTO;
 import com.boxcopilot.backend.dto.MagicLinkResponseDTO;
 import com.boxcopilot.backend.repository.MagicLoginTokenRepository;
 import com.boxcopilot.backend.repository.UserRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -27,6 +30,11 @@ public class MagicLoginTokenService {
     
     private final MagicLoginTokenRepository tokenRepository;
     private final UserRepository userRepository;
+    private final Counter validationSucceeded;
+    private final Counter validationNotFound;
+    private final Counter validationUsed;
+    private final Counter validationExpired;
+    private final Counter validationDisabled;
     
     @Value("${app.magiclink.default-valid-hours:24}")
     private int defaultValidHours;
@@ -34,9 +42,22 @@ public class MagicLoginTokenService {
     @Value("${app.magiclink.backend-base-url:}")
     private String backendBaseUrl;
     
-    public MagicLoginTokenService(MagicLoginTokenRepository tokenRepository, UserRepository userRepository) {
+    public MagicLoginTokenService(MagicLoginTokenRepository tokenRepository, UserRepository userRepository,
+                                  MeterRegistry meterRegistry) {
         this.tokenRepository = tokenRepository;
         this.userRepository = userRepository;
+        this.validationSucceeded = validationCounter("success", meterRegistry);
+        this.validationNotFound = validationCounter("not_found", meterRegistry);
+        this.validationUsed = validationCounter("used", meterRegistry);
+        this.validationExpired = validationCounter("expired", meterRegistry);
+        this.validationDisabled = validationCounter("disabled", meterRegistry);
+    }
+
+    private static Counter validationCounter(String outcome, MeterRegistry meterRegistry) {
+        return Counter.builder("boxcopilot.magic.login.validations")
+                .description("Magic login token validations by outcome")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
     }
     
     /**
@@ -92,16 +113,20 @@ public class MagicLoginTokenService {
     }
     
     /**
-     * Validate a magic login token and return the associated user
+     * Validate a magic login token and return the associated user.
+     * Outcomes are counted in boxcopilot.magic.login.validations.
      */
     @Transactional
+    @Observed(name = "boxcopilot.magic.login.validation")
     public Optional<User> validateToken(String tokenString) {
-        log.debug("Validating magic login token: {}", tokenString.substring(0, Math.min(8, tokenString.length())) + "...");
+        // Suppliers: the token prefix is only built when the level is enabled
+        log.atDebug().setMessage("Validating magic login token: {}...").addArgument(() -> tokenPrefix(tokenString)).log();
         
         Optional<MagicLoginToken> tokenOpt = tokenRepository.findByToken(tokenString);
         
         if (tokenOpt.isEmpty()) {
-            log.warn("Magic login token not found: {}", tokenString.substring(0, Math.min(8, tokenString.length())) + "...");
+            log.atWarn().setMessage("Magic login token not found: {}...").addArgument(() -> tokenPrefix(tokenString)).log();
+            validationNotFound.increment();
             return Optional.empty();
         }
         
@@ -110,6 +135,7 @@ public class MagicLoginTokenService {
         // Disallow reuse
         if (Boolean.TRUE.equals(token.getUsed())) {
             log.warn("Magic login token already used for user '{}': token id {}", token.getUser().getUsername(), token.getId());
+            validationUsed.increment();
             return Optional.empty();
         }
         
@@ -117,21 +143,28 @@ public class MagicLoginTokenService {
         if (token.isExpired()) {
             log.warn("Magic login token expired for user '{}': expires at {}", 
                     token.getUser().getUsername(), token.getExpiryDate());
+            validationExpired.increment();
             return Optional.empty();
         }
         
         // Check if user is enabled
         if (!token.getUser().getEnabled()) {
             log.warn("Magic login attempted for disabled user: {}", token.getUser().getUsername());
+            validationDisabled.increment();
             return Optional.empty();
         }
         
         log.info("Magic login successful for user '{}' (id: {})", 
                 token.getUser().getUsername(), token.getUser().getId());
+        validationSucceeded.increment();
         
         return Optional.of(token.getUser());
     }
-    
+
+    private static String tokenPrefix(String token) {
+        return token.substring(0, Math.min(8, token.length()));
+    }
+
     /**
      * Invalidate all active tokens for a user
      */
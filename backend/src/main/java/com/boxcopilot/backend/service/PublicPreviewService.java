@@ -0,0 +1,143 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.dto.BoxPreviewDTO;
+import com.boxcopilot.backend.mapper.ItemImageUrls;
+import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.ItemRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Serves the public (QR code) box preview from a cache of serialized JSON, keyed by box UUID.
+ * A cache hit needs neither a database connection nor JSON serialization. Entries are invalidated
+ * through the {@link InventoryChangeBus} after the changing transaction commits on any instance; the TTL
+ * only bounds staleness after changes made outside the services or lost on the way.
+ */
+@Service
+public class PublicPreviewService implements InventoryChangeSubscriber {
+
+    private static final Logger log = LoggerFactory.getLogger(PublicPreviewService.class);
+
+    private final BoxRepository boxRepository;
+    private final ItemRepository itemRepository;
+    private final ItemImageUrls imageUrls;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Cache<String, Preview> cache;
+
+    public PublicPreviewService(BoxRepository boxRepository, ItemRepository itemRepository, ItemImageUrls imageUrls,
+                                ObjectMapper objectMapper, PlatformTransactionManager transactionManager,
+                                MeterRegistry meterRegistry,
+                                @Value("${app.public-preview.cache.max-size:10000}") long maxSize,
+                                @Value("${app.public-preview.cache.ttl:10m}") Duration ttl) {
+        this.boxRepository = boxRepository;
+        this.itemRepository = itemRepository;
+        this.imageUrls = imageUrls;
+        this.objectMapper = objectMapper;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(maxSize)
+            .expireAfterWrite(ttl)
+            .recordStats()
+            .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "publicPreview");
+    }
+
+    /**
+     * Serialized preview of the box with the given UUID, or empty if there is no such box.
+     * Unknown UUIDs are not cached.
+     */
+    public Optional<Preview> getPreview(String uuid) {
+        return Optional.ofNullable(cache.get(uuid, this::load));
+    }
+
+    @Override
+    public void onInventoryChange(InventoryChangedEvent change) {
+        cache.invalidateAll(change.boxUuids());
+    }
+
+    private Preview load(String uuid) {
+        BoxPreviewDTO dto = readOnlyTransaction.execute(status -> buildPreview(uuid));
+        if (dto == null) {
+            return null;
+        }
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(dto);
+            log.debug("Public preview generated for box: {} with {} items", uuid, dto.getItems().size());
+            return new Preview(json, eTag(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize preview for box " + uuid, e);
+        }
+    }
+
+    private BoxPreviewDTO buildPreview(String uuid) {
+        Optional<Box> boxOpt = boxRepository.findByUuid(uuid);
+        if (boxOpt.isEmpty()) {
+            return null;
+        }
+        Box box = boxOpt.get();
+
+        // Fetch items by box ID (more efficient than loading all items)
+        List<Item> items = itemRepository.findByBoxIdOrderByNameAsc(box.getId());
+
+        List<BoxPreviewDTO.ItemDTO> itemDTOs = items.stream()
+            .map(i -> {
+                BoxPreviewDTO.ItemDTO dto = new BoxPreviewDTO.ItemDTO(i.getId(), i.getName());
+                dto.setImageUrl(imageUrls.get(i, ItemImageUrls.Rendition.THUMBNAIL));
+                dto.setLargeImageUrl(imageUrls.get(i, ItemImageUrls.Rendition.LARGE));
+                return dto;
+            })
+            .toList();
+
+        BoxPreviewDTO dto = new BoxPreviewDTO(
+            box.getId(),
+            box.getUuid(),
+            box.getCurrentRoom(),
+            box.getTargetRoom(),
+            box.getDescription(),
+            itemDTOs
+        );
+        dto.setBoxNumber(box.getBoxNumber());
+        dto.setIsFragile(box.getIsFragile());
+        dto.setNoStack(box.getNoStack());
+        return dto;
+    }
+
+    /**
+     * Strong ETag derived from the serialized bytes, so it only changes when the response does.
+     */
+    private static String eTag(byte[] json) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * A serialized preview and its strong ETag.
+     */
+    public record Preview(byte[] json, String eTag) {
+    }
+}
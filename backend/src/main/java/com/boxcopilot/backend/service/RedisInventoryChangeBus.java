@@ -0,0 +1,74 @@
+package com.boxcopilot.backend.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Fans inventory changes out through a Redis channel, so subscribers connected to any replica receive them.
+ * Every instance, including the publishing one, hands what it receives from the channel to its local subscribers.
+ */
+@Component
+@Profile("prod")
+public class RedisInventoryChangeBus implements InventoryChangeBus, MessageListener {
+
+    static final String CHANNEL = "boxcopilot:inventory-changes";
+
+    private static final Logger log = LoggerFactory.getLogger(RedisInventoryChangeBus.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final List<InventoryChangeSubscriber> subscribers;
+
+    public RedisInventoryChangeBus(StringRedisTemplate redisTemplate, ObjectMapper objectMapper,
+                                   List<InventoryChangeSubscriber> subscribers,
+                                   RedisMessageListenerContainer listenerContainer) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.subscribers = subscribers;
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onInventoryChanged(InventoryChangedEvent event) {
+        publish(event);
+    }
+
+    @Override
+    public void publish(InventoryChangedEvent change) {
+        try {
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(change));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // Other instances miss this change (clients catch up through delta sync), but this one still sees it
+            log.warn("Could not publish inventory change to Redis: {}", e.getMessage());
+            deliver(change);
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            String json = new String(message.getBody(), StandardCharsets.UTF_8);
+            deliver(objectMapper.readValue(json, InventoryChangedEvent.class));
+        } catch (JsonProcessingException e) {
+            log.warn("Ignoring malformed inventory change message: {}", e.getMessage());
+        }
+    }
+
+    private void deliver(InventoryChangedEvent change) {
+        subscribers.forEach(subscriber -> subscriber.onInventoryChange(change));
+    }
+}
@@ -0,0 +1,58 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.CacheRegions;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.repository.BoxRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Evicts second-level cache entries touched by changes from other replicas. Hibernate only keeps the cache of
+ * the instance that made a change up to date, and the regions are local to each instance.
+ * Changes carry box UUIDs, which are resolved to ids with one query, so only the affected boxes and box contents
+ * are evicted; changes to many boxes at once clear both regions instead.
+ * Changes made on this instance come back through the channel as well; evicting them again is harmless.
+ */
+@Component
+@Profile("prod")
+public class SecondLevelCacheInvalidator implements InventoryChangeSubscriber {
+
+    // Matches the chunk size of set-based stamping; more boxes than this are not resolved one by one
+    private static final int BOX_EVICTION_LIMIT = 1000;
+    private static final String BOX_ITEMS_ROLE = Box.class.getName() + ".items";
+
+    private final Cache cache;
+    private final BoxRepository boxRepository;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory, BoxRepository boxRepository) {
+        this.cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        this.boxRepository = boxRepository;
+    }
+
+    @Override
+    public void onInventoryChange(InventoryChangedEvent change) {
+        if (change.boxUuids().size() > BOX_EVICTION_LIMIT) {
+            cache.evictRegion(CacheRegions.BOX);
+            cache.evictRegion(CacheRegions.BOX_ITEMS);
+        } else {
+            // Deleted boxes can no longer be resolved, but their ids are part of the change
+            Set<Long> boxIds = new HashSet<>(change.deletedBoxIds());
+            if (!change.boxUuids().isEmpty()) {
+                boxIds.addAll(boxRepository.findIdsByUuidIn(change.boxUuids()));
+            }
+            boxIds.forEach(id -> {
+                cache.evictEntityData(Box.class, id);
+                cache.evictCollectionData(BOX_ITEMS_ROLE, id);
+            });
+        }
+        change.itemIds().forEach(id -> cache.evictEntityData(Item.class, id));
+        change.deletedItemIds().forEach(id -> cache.evictEntityData(Item.class, id));
+    }
+}
@@ -0,0 +1,106 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.domain.Tombstone;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.dto.SyncResponseDTO;
+import com.boxcopilot.backend.mapper.BoxMapper;
+import com.boxcopilot.backend.mapper.ItemMapper;
+import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.InventoryVersionRepository;
+import com.boxcopilot.backend.repository.ItemRepository;
+import com.boxcopilot.backend.repository.TombstoneRepository;
+import io.micrometer.observation.annotation.Observed;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Delta sync: boxes and items changed since a cursor (an inventory version), plus deletions.
+ */
+@Service
+@Observed(name = "boxcopilot.service")
+public class SyncService {
+
+    private static final Logger log = LoggerFactory.getLogger(SyncService.class);
+
+    private final BoxRepository boxRepository;
+    private final ItemRepository itemRepository;
+    private final TombstoneRepository tombstoneRepository;
+    private final InventoryVersionRepository inventoryVersionRepository;
+    private final BoxMapper boxMapper;
+    private final ItemMapper itemMapper;
+
+    public SyncService(BoxRepository boxRepository, ItemRepository itemRepository,
+                       TombstoneRepository tombstoneRepository, InventoryVersionRepository inventoryVersionRepository,
+                       BoxMapper boxMapper, ItemMapper itemMapper) {
+        this.boxRepository = boxRepository;
+        this.itemRepository = itemRepository;
+        this.tombstoneRepository = tombstoneRepository;
+        this.inventoryVersionRepository = inventoryVersionRepository;
+        this.boxMapper = boxMapper;
+        this.itemMapper = itemMapper;
+    }
+
+    /**
+     * Changes committed after the given cursor. The returned cursor is read first, so a change committed
+     * while the rows are read may be returned now and again on the next call, but is never skipped.
+     * Without items, only box summaries and box deletions are returned (enough for the box list).
+     * A cursor older than the pruned tombstones gets a full sync marked as resync, since deletions may be missing.
+     */
+    @Transactional(readOnly = true)
+    public SyncResponseDTO getChangesSince(long since, boolean includeItems) {
+        long cursor = inventoryVersionRepository.findCurrentVersion();
+        List<Tombstone> tombstones = since > 0 ? tombstoneRepository.findByChangeVersionGreaterThan(since) : List.of();
+        // Read after the tombstones: pruning commits the deletion and the new horizon together,
+        // so tombstones pruned before they were read are always covered by the horizon
+        boolean resync = since > 0 && since < inventoryVersionRepository.findPrunedVersion();
+        long from = resync ? 0 : since;
+
+        List<BoxResponseDTO> boxes = boxRepository.findByChangeVersionGreaterThanOrderByBoxNumberDescIdDesc(from).stream()
+            .map(boxMapper::toSummaryResponseDTO)
+            .toList();
+        List<ItemResponseDTO> items = !includeItems ? List.of()
+            : itemRepository.findByChangeVersionGreaterThanOrderByIdAsc(from).stream()
+                .map(itemMapper::toResponseDTO)
+                .toList();
+
+        List<Long> deletedBoxIds = new ArrayList<>();
+        List<Long> deletedItemIds = new ArrayList<>();
+        // A full sync starts from nothing, so there is nothing to delete
+        if (!resync) {
+            for (Tombstone tombstone : tombstones) {
+                if (tombstone.getEntityType() == Tombstone.EntityType.BOX) {
+                    deletedBoxIds.add(tombstone.getEntityId());
+                } else if (includeItems) {
+                    deletedItemIds.add(tombstone.getEntityId());
+                }
+            }
+        }
+
+        log.debug("Service: Sync since {} -> {}{}: {} boxes, {} items, {} deletions", since, cursor,
+            resync ? " (resync)" : "", boxes.size(), items.size(), deletedBoxIds.size() + deletedItemIds.size());
+        return new SyncResponseDTO(cursor, resync, boxes, items, deletedBoxIds, deletedItemIds);
+    }
+
+    /**
+     * Deletes tombstones recorded before the cutoff and raises the sync horizon to the newest of them,
+     * so clients with an older cursor get a full resync instead of missing deletions.
+     */
+    @Transactional
+    public void pruneTombstones(Instant cutoff) {
+        Long prunedVersion = tombstoneRepository.findMaxChangeVersionDeletedBefore(cutoff);
+        if (prunedVersion == null) {
+            log.debug("Service: No tombstones older than {}", cutoff);
+            return;
+        }
+        inventoryVersionRepository.advancePrunedVersion(prunedVersion);
+        int pruned = tombstoneRepository.deleteUpToChangeVersion(prunedVersion);
+        log.info("Service: Pruned {} tombstones up to change version {}", pruned, prunedVersion);
+    }
+}
@@ -8,7 +8,6 @@ import com.boxcopilot.backend.dto.UpdateUserDTO;
 import com.boxcopilot.backend.dto.UserDTO;
 import com.boxcopilot.backend.repository.MagicLoginTokenRepository;
 import com.boxcopilot.backend.repository.UserRepository;
-import jakarta.annotation.PostConstruct;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
@@ -56,8 +55,8 @@ public class UserService {
     
     /**
      * Create default admin account on startup if no users exist
+     * (invoked by StartupMaintenanceRunner once the application is ready)
      */
-    @PostConstruct
     public void initializeDefaultAdmin() {
         if (userRepository.count() == 0) {
             log.info("No users found. Creating default admin account...");
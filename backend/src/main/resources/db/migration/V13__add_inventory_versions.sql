@@ -0,0 +1,14 @@
+-- Per-box version (optimistic locking and ETags for a box and its items) and last change time
+ALTER TABLE boxes ADD COLUMN version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE boxes ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE;
+
+UPDATE boxes SET updated_at = created_at;
+
+-- Global inventory version (ETag for box lists), bumped by every committed box or item change
+CREATE TABLE inventory_version (
+    id INT PRIMARY KEY,
+    version BIGINT NOT NULL
+);
+
+INSERT INTO inventory_version (id, version) VALUES (1, 0);
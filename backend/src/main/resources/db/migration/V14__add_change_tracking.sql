@@ -0,0 +1,21 @@
+-- Change tracking for delta sync: the inventory version at which a row last changed
+ALTER TABLE boxes ADD COLUMN change_version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE items ADD COLUMN change_version BIGINT DEFAULT 0 NOT NULL;
+
+ALTER TABLE items ADD COLUMN updated_at TIMESTAMP WITH TIME ZONE;
+
+CREATE INDEX idx_boxes_change_version ON boxes(change_version);
+
+CREATE INDEX idx_items_change_version ON items(change_version);
+
+-- Deleted boxes and items, so sync clients can drop them
+CREATE TABLE tombstones (
+    id BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(16) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    change_version BIGINT NOT NULL,
+    deleted_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX idx_tombstones_change_version ON tombstones(change_version);
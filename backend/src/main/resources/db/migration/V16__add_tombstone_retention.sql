@@ -0,0 +1,2 @@
+-- Highest change version of pruned tombstones; sync cursors below it get a full resync
+ALTER TABLE inventory_version ADD COLUMN pruned_version BIGINT DEFAULT 0 NOT NULL;
@@ -0,0 +1,118 @@
+package com.boxcopilot.backend.perf;
+
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.Item;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.GradientPaint;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Synthetic, reproducible test data shared by the JMH benchmarks and the load test (fixed seeds, realistic shapes).
+ */
+public final class SyntheticData {
+
+    public static final String[] ROOMS = {
+        "Küche", "Wohnzimmer", "Schlafzimmer", "Kinderzimmer", "Bad", "Büro", "Keller", "Garage", "Dachboden", "Flur"
+    };
+
+    public static final String[] ITEM_WORDS = {
+        "Teller", "Tasse", "Kabel", "Buch", "Lampe", "Hammer", "Zange", "Handtuch", "Kissen", "Decke",
+        "Spielzeug", "Ordner", "Schuhe", "Pfanne", "Topf", "Vase", "Bilderrahmen", "Ladegerät", "Glas", "Besteck"
+    };
+
+    private SyntheticData() {
+    }
+
+    /** Item name such as "Kabel 17"; each word matches roughly 1/20 of all items. */
+    public static String itemName(Random random) {
+        return ITEM_WORDS[random.nextInt(ITEM_WORDS.length)] + " " + random.nextInt(1000);
+    }
+
+    /**
+     * Builds a detached box with ids and the given number of items, half of them with an image.
+     */
+    public static Box box(long id, int itemCount, Random random) {
+        Box box = new Box(UUID.randomUUID().toString(), ROOMS[random.nextInt(ROOMS.length)],
+            ROOMS[random.nextInt(ROOMS.length)], "Umzugskarton " + id);
+        ReflectionTestUtils.setField(box, "id", id);
+        box.setBoxNumber((int) id);
+        for (int i = 0; i < itemCount; i++) {
+            Item item = new Item(box, itemName(random));
+            ReflectionTestUtils.setField(item, "id", id * 1000 + i);
+            item.setImageToken(UUID.randomUUID().toString());
+            if (i % 2 == 0) {
+                item.setImagePath(item.getId() + "_thumb.jpg");
+                item.setImageUpdatedAt(System.currentTimeMillis());
+            }
+            box.getItems().add(item);
+        }
+        return box;
+    }
+
+    /**
+     * Encodes a JPEG that behaves like a phone photo: smooth gradients, hard edges and sensor noise,
+     * so that the compressed size and decode cost are close to real uploads (roughly 1-4 MB at 12 MP).
+     */
+    public static byte[] photo(int width, int height, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        try {
+            g.setPaint(new GradientPaint(0, 0, new Color(random.nextInt(0xFFFFFF)),
+                width, height, new Color(random.nextInt(0xFFFFFF))));
+            g.fillRect(0, 0, width, height);
+            for (int i = 0; i < 200; i++) {
+                g.setColor(new Color(random.nextInt(0xFFFFFF)));
+                g.fillRect(random.nextInt(width), random.nextInt(height), random.nextInt(width / 4) + 1,
+                    random.nextInt(height / 4) + 1);
+            }
+        } finally {
+            g.dispose();
+        }
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int rgb = image.getRGB(x, y);
+                int noise = random.nextInt(17) - 8;
+                int r = clamp(((rgb >> 16) & 0xFF) + noise);
+                int gr = clamp(((rgb >> 8) & 0xFF) + noise);
+                int b = clamp((rgb & 0xFF) + noise);
+                image.setRGB(x, y, (r << 16) | (gr << 8) | b);
+            }
+        }
+        return toJpeg(image, 0.92f);
+    }
+
+    private static int clamp(int value) {
+        return Math.max(0, Math.min(255, value));
+    }
+
+    private static byte[] toJpeg(BufferedImage image, float quality) {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpg").next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (ImageOutputStream ios = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(ios);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(quality);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+}
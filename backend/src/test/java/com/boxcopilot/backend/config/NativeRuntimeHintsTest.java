@@ -0,0 +1,58 @@
+package com.boxcopilot.backend.config;
+
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.InventoryVersion;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.domain.Tombstone;
+import com.boxcopilot.backend.service.CustomUserDetailsService;
+import org.junit.jupiter.api.Test;
+import org.springframework.aot.hint.MemberCategory;
+import org.springframework.aot.hint.RuntimeHints;
+import org.springframework.aot.hint.TypeReference;
+import org.springframework.aot.hint.predicate.RuntimeHintsPredicates;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for NativeRuntimeHints.
+ */
+class NativeRuntimeHintsTest {
+
+    private final RuntimeHints hints = new RuntimeHints();
+
+    NativeRuntimeHintsTest() {
+        new NativeRuntimeHints().registerHints(hints, getClass().getClassLoader());
+    }
+
+    @Test
+    void registersEntitiesForReflection() {
+        assertThat(RuntimeHintsPredicates.reflection().onType(Box.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Item.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(InventoryVersion.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Tombstone.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(Tombstone.EntityType.class)).accepts(hints);
+    }
+
+    @Test
+    void registersImageIoProviders() {
+        assertThat(RuntimeHintsPredicates.reflection()
+            .onType(TypeReference.of("com.sun.imageio.plugins.jpeg.JPEGImageWriterSpi"))).accepts(hints);
+        assertThat(RuntimeHintsPredicates.resource()
+            .forResource("META-INF/services/javax.imageio.spi.ImageReaderSpi")).accepts(hints);
+    }
+
+    @Test
+    void registersSessionAttributesForSerialization() {
+        assertThat(RuntimeHintsPredicates.serialization().onType(SecurityContextImpl.class)).accepts(hints);
+        assertThat(RuntimeHintsPredicates.serialization()
+            .onType(CustomUserDetailsService.CustomUserPrincipal.class)).accepts(hints);
+    }
+
+    @Test
+    void registersFlywayMigrations() {
+        assertThat(RuntimeHintsPredicates.resource().forResource("db/migration/V1__init.sql")).accepts(hints);
+        assertThat(RuntimeHintsPredicates.reflection().onType(ItemIdSequenceMigration.class)
+            .withMemberCategory(MemberCategory.INVOKE_DECLARED_CONSTRUCTORS)).accepts(hints);
+    }
+}
@@ -0,0 +1,91 @@
+package com.boxcopilot.backend.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for SlowQueryListener.
+ */
+class SlowQueryListenerTest {
+
+    private MeterRegistry meterRegistry;
+    private SlowQueryListener listener;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory(Map.of("meterRegistry", meterRegistry));
+        listener = new SlowQueryListener(beanFactory.getBeanProvider(MeterRegistry.class), Duration.ofMillis(100));
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/items/search");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/items/search");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void afterQuery_slowStatement_recordedWithEndpoint() {
+        listener.afterQuery(execution(250), List.of(query("select * from items where lower(name) like ?", 1)));
+
+        Timer timer = meterRegistry.find("boxcopilot.sql.slow.queries")
+            .tags("method", "GET", "uri", "/api/v1/items/search")
+            .timer();
+        assertThat(timer).isNotNull();
+        assertThat(timer.count()).isEqualTo(1);
+    }
+
+    @Test
+    void afterQuery_fastStatement_ignored() {
+        listener.afterQuery(execution(5), List.of(query("select * from boxes", 0)));
+
+        assertThat(meterRegistry.find("boxcopilot.sql.slow.queries").timer()).isNull();
+    }
+
+    @Test
+    void afterQuery_outsideRequest_taggedAsNone() {
+        RequestContextHolder.resetRequestAttributes();
+
+        listener.afterQuery(execution(150), List.of(query("update items set image_token = ? where id = ?", 2)));
+
+        assertThat(meterRegistry.find("boxcopilot.sql.slow.queries").tags("uri", "none").timer()).isNotNull();
+    }
+
+    private static ExecutionInfo execution(long elapsedMillis) {
+        ExecutionInfo executionInfo = new ExecutionInfo();
+        executionInfo.setElapsedTime(elapsedMillis);
+        return executionInfo;
+    }
+
+    private static QueryInfo query(String sql, int parameters) {
+        QueryInfo queryInfo = new QueryInfo(sql);
+        List<ParameterSetOperation> parameterSet = new ArrayList<>();
+        for (int i = 0; i < parameters; i++) {
+            parameterSet.add(new ParameterSetOperation());
+        }
+        queryInfo.getParametersList().add(parameterSet);
+        return queryInfo;
+    }
+}
@@ -0,0 +1,100 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the opt-in CBOR representation of the API.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class CborRepresentationTest {
+
+    private static final MediaType APPLICATION_CBOR = MediaType.valueOf("application/cbor");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BoxService boxService;
+
+    private BoxResponseDTO box;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Küche", "Keller", "Geschirr"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+    }
+
+    @Test
+    void getBox_cborCarriesTheSameDocumentAsJson() throws Exception {
+        byte[] cbor = mockMvc.perform(get("/api/v1/boxes/{uuid}", box.getUuid()).accept(APPLICATION_CBOR))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(APPLICATION_CBOR))
+            .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)))
+            .andReturn().getResponse().getContentAsByteArray();
+        String json = mockMvc.perform(get("/api/v1/boxes/{uuid}", box.getUuid()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+            .andReturn().getResponse().getContentAsString();
+
+        TypeReference<Map<String, Object>> document = new TypeReference<>() {
+        };
+        Map<String, Object> fromCbor = new CBORMapper().readValue(cbor, document);
+        assertThat(fromCbor).isEqualTo(objectMapper.readValue(json, document));
+        // Dates follow spring.jackson settings in both formats
+        assertThat(fromCbor.get("createdAt")).isInstanceOf(String.class);
+        assertThat(cbor.length).isLessThan(json.getBytes().length);
+    }
+
+    @Test
+    void getBox_notModifiedStillVariesByAccept() throws Exception {
+        for (String path : new String[] {"/api/v1/boxes/" + box.getUuid(), "/api/v1/items/box/" + box.getUuid()}) {
+            String eTag = mockMvc.perform(get(path).accept(APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(path).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().stringValues(HttpHeaders.VARY, hasItem(HttpHeaders.ACCEPT)));
+        }
+    }
+
+    @Test
+    void getBox_withoutAcceptReturnsJson() throws Exception {
+        mockMvc.perform(get("/api/v1/boxes/{uuid}", box.getUuid()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType(MediaType.APPLICATION_JSON));
+    }
+}
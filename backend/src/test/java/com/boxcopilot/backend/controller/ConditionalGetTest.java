@@ -0,0 +1,130 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.BoxUpdateDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.InventoryVersionService;
+import com.boxcopilot.backend.service.ItemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.boxcopilot.backend.controller.testutil.SqlStatementCountMatchers.sqlStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for ETags and If-None-Match on the authenticated box and item endpoints.
+ * Not transactional, so versions are bumped by real commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ConditionalGetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private InventoryVersionService versionService;
+
+    private BoxResponseDTO box;
+    private BoxResponseDTO otherBox;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Bücher", "Arbeitszimmer", null));
+        otherBox = boxService.createBox(new BoxRequestDTO("Spiele", "Wohnzimmer", null));
+        itemService.createItem(new ItemRequestDTO("Roman", box.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+        boxService.deleteBox(otherBox.getId());
+    }
+
+    @Test
+    void getByUuid_unchangedBoxIsNotModifiedWithoutLoadingIt() throws Exception {
+        String eTag = eTagOf("/api/v1/boxes/" + box.getUuid());
+
+        mockMvc.perform(get("/api/v1/boxes/{uuid}", box.getUuid()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(sqlStatementCount(1));
+    }
+
+    @Test
+    void getByUuid_itemChangeInvalidatesETag() throws Exception {
+        String eTag = eTagOf("/api/v1/boxes/" + box.getUuid());
+        String itemsETag = eTagOf("/api/v1/items/box/" + box.getUuid());
+
+        itemService.createItem(new ItemRequestDTO("Atlas", box.getId()));
+
+        mockMvc.perform(get("/api/v1/boxes/{uuid}", box.getUuid()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/items/box/{uuid}", box.getUuid()).header(HttpHeaders.IF_NONE_MATCH, itemsETag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void moveItem_changesVersionOfSourceAndTargetBox() throws Exception {
+        ItemResponseDTO item = itemService.createItem(new ItemRequestDTO("Lexikon", box.getId()));
+        String sourceETag = eTagOf("/api/v1/boxes/" + box.getUuid());
+        String targetETag = eTagOf("/api/v1/boxes/" + otherBox.getUuid());
+
+        itemService.moveItem(item.getId(), otherBox.getId());
+
+        assertThat(eTagOf("/api/v1/boxes/" + box.getUuid())).isNotEqualTo(sourceETag);
+        assertThat(eTagOf("/api/v1/boxes/" + otherBox.getUuid())).isNotEqualTo(targetETag);
+    }
+
+    @Test
+    void list_isNotModifiedUntilAnyBoxChanges() throws Exception {
+        String eTag = eTagOf("/api/v1/boxes");
+
+        mockMvc.perform(get("/api/v1/boxes").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+
+        BoxUpdateDTO update = new BoxUpdateDTO();
+        update.setTargetRoom("Keller");
+        boxService.updateBox(otherBox.getId(), update);
+
+        mockMvc.perform(get("/api/v1/boxes").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk());
+    }
+
+    @Test
+    void updateBox_incrementsVersionOnce() {
+        long versionBefore = versionService.getBoxVersion(otherBox.getUuid()).orElseThrow();
+
+        BoxUpdateDTO update = new BoxUpdateDTO();
+        update.setTargetRoom("Dachboden");
+        boxService.updateBox(otherBox.getId(), update);
+
+        assertThat(versionService.getBoxVersion(otherBox.getUuid())).contains(versionBefore + 1);
+    }
+
+    private String eTagOf(String path) throws Exception {
+        String eTag = mockMvc.perform(get(path))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).isNotNull();
+        return eTag;
+    }
+}
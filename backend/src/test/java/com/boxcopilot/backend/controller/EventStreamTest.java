@@ -0,0 +1,76 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+/**
+ * Integration tests for the server-sent event stream of inventory changes.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class EventStreamTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    private BoxResponseDTO box;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Garten", "Schuppen", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+    }
+
+    @Test
+    void committedChangeIsStreamedToSubscribers() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/events").accept(MediaType.TEXT_EVENT_STREAM))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        ItemResponseDTO item = itemService.createItem(new ItemRequestDTO("Schaufel", box.getId()));
+
+        String stream = awaitContent(result.getResponse(), "\"itemIds\":[" + item.getId() + "]");
+        assertThat(stream).contains("event:inventory-changed");
+        assertThat(stream).contains(box.getUuid());
+    }
+
+    private static String awaitContent(MockHttpServletResponse response, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 5000;
+        String content = response.getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = response.getContentAsString();
+        }
+        return content;
+    }
+}
@@ -0,0 +1,96 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemBatchRequestDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static com.boxcopilot.backend.controller.testutil.SqlStatementCountMatchers.sqlStatementCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for adding several items to a box at once.
+ * Not transactional, so the inserts are flushed and batched by a real commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ItemBatchTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    private BoxResponseDTO box;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Umzug", "Keller", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+    }
+
+    @Test
+    void createItems_insertsAllItemsInBatches() throws Exception {
+        List<String> names = IntStream.range(0, 100).mapToObj(i -> "Buch " + i).toList();
+
+        mockMvc.perform(post("/api/v1/boxes/{id}/items/batch", box.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ItemBatchRequestDTO(names))))
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.length()").value(100))
+            .andExpect(jsonPath("$[0].boxUuid").value(box.getUuid()))
+            .andExpect(sqlStatementCountAtMost(10));
+
+        assertThat(itemService.getItemsByBoxUuid(box.getUuid()))
+            .extracting(ItemResponseDTO::getName)
+            .containsExactlyInAnyOrderElementsOf(names);
+    }
+
+    @Test
+    void createItems_rejectsBlankNames() throws Exception {
+        mockMvc.perform(post("/api/v1/boxes/{id}/items/batch", box.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ItemBatchRequestDTO(List.of("Lampe", " ")))))
+            .andExpect(status().isBadRequest());
+
+        assertThat(itemService.getItemsByBoxUuid(box.getUuid())).isEmpty();
+    }
+
+    @Test
+    void createItems_unknownBoxIsNotFound() throws Exception {
+        mockMvc.perform(post("/api/v1/boxes/{id}/items/batch", 987_654_321L)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new ItemBatchRequestDTO(List.of("Lampe")))))
+            .andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,115 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.config.SqlStatementCountFilter;
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for {@code Prefer: return=minimal} on box and item write endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PreferMinimalTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private BoxResponseDTO box;
+    private ItemResponseDTO item;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Bad", "Keller", null));
+        item = itemService.createItem(new ItemRequestDTO("Handtuch", box.getId()));
+        itemService.createItem(new ItemRequestDTO("Seife", box.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+    }
+
+    @Test
+    void updateBox_preferMinimalReturnsNoContentAndSkipsItems() throws Exception {
+        int minimal = countStatements(boxUpdate("{\"labelPrinted\": true}").header("Prefer", "return=minimal"), 204);
+        int representation = countStatements(boxUpdate("{\"labelPrinted\": false}"), 200);
+
+        assertThat(minimal).isLessThan(representation);
+        assertThat(boxService.getBoxById(box.getId()).getLabelPrinted()).isFalse();
+    }
+
+    @Test
+    void updateBox_preferMinimalSetsPreferenceApplied() throws Exception {
+        mockMvc.perform(boxUpdate("{\"isMovedToTarget\": true}").header("Prefer", "handling=lenient, return=minimal"))
+            .andExpect(status().isNoContent())
+            .andExpect(header().string("Preference-Applied", "return=minimal"))
+            .andExpect(content().string(""));
+
+        assertThat(boxService.getBoxById(box.getId()).getIsMovedToTarget()).isTrue();
+    }
+
+    @Test
+    void updateItem_withoutPreferenceReturnsRepresentation() throws Exception {
+        mockMvc.perform(put("/api/v1/items/{id}", item.getId())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Badetuch\"}"))
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist("Preference-Applied"))
+            .andExpect(jsonPath("$.name").value("Badetuch"));
+
+        mockMvc.perform(put("/api/v1/items/{id}", item.getId())
+                .header("Prefer", "return=minimal")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"name\": \"Handtuch\"}"))
+            .andExpect(status().isNoContent())
+            .andExpect(header().string("Preference-Applied", "return=minimal"));
+    }
+
+    private MockHttpServletRequestBuilder boxUpdate(String json) {
+        return put("/api/v1/boxes/{id}", box.getId())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(json);
+    }
+
+    // Starts from an empty second-level cache, so loading the items shows up as statements
+    private int countStatements(MockHttpServletRequestBuilder request, int expectedStatus) throws Exception {
+        entityManagerFactory.getCache().evictAll();
+        String count = mockMvc.perform(request)
+            .andExpect(status().is(expectedStatus))
+            .andReturn().getResponse().getHeader(SqlStatementCountFilter.HEADER);
+        assertThat(count).isNotNull();
+        return Integer.parseInt(count);
+    }
+}
@@ -0,0 +1,93 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.boxcopilot.backend.controller.testutil.SqlStatementCountMatchers.sqlStatementCount;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.hasItem;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the cached public preview. Not transactional, so cache invalidation
+ * runs after a real commit.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class PublicPreviewControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    private BoxResponseDTO box;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Werkzeug", "Garage", null));
+        itemService.createItem(new ItemRequestDTO("Hammer", box.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+    }
+
+    @Test
+    void preview_repeatedScanIsServedFromCacheAsNotModified() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/public/{uuid}", box.getUuid()))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andExpect(jsonPath("$.items[*].name", hasItem("Hammer")))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(eTag).startsWith("\"");
+
+        mockMvc.perform(get("/api/v1/public/{uuid}", box.getUuid()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, eTag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+            .andExpect(sqlStatementCount(0));
+    }
+
+    @Test
+    void preview_isInvalidatedWhenItemsChange() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/public/{uuid}", box.getUuid()))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        itemService.createItem(new ItemRequestDTO("Zange", box.getId()));
+
+        String newETag = mockMvc.perform(get("/api/v1/public/{uuid}", box.getUuid()).header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items[*].name", hasItem("Zange")))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(newETag).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void preview_unknownBoxIsNotFound() throws Exception {
+        mockMvc.perform(get("/api/v1/public/{uuid}", "does-not-exist"))
+            .andExpect(status().isNotFound());
+    }
+}
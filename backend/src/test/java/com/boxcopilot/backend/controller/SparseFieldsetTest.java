@@ -0,0 +1,123 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.List;
+import java.util.Map;
+
+import static com.boxcopilot.backend.controller.testutil.SqlStatementCountMatchers.sqlStatementCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the fields= parameter of the box and item list endpoints.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SparseFieldsetTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    private BoxResponseDTO box;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Flur", "Keller", "Lange Beschreibung"));
+        itemService.createItem(new ItemRequestDTO("Schirm", box.getId()));
+        itemService.createItem(new ItemRequestDTO("Mütze", box.getId()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+    }
+
+    @Test
+    void listBoxes_returnsOnlyRequestedFieldsWithOneQuery() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/boxes").param("fields", "id,boxNumber,currentRoom,itemCount"))
+            .andExpect(status().isOk())
+            // inventory version for the ETag plus the projection query
+            .andExpect(sqlStatementCountAtMost(2))
+            .andReturn();
+
+        Map<String, Object> row = rowWithId(result, box.getId());
+        assertThat(row).containsOnlyKeys("id", "boxNumber", "currentRoom", "itemCount");
+        assertThat(row).containsEntry("boxNumber", box.getBoxNumber())
+            .containsEntry("currentRoom", "Flur")
+            .containsEntry("itemCount", 2);
+    }
+
+    @Test
+    void listBoxes_supportsConditionalGet() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/boxes").param("fields", "id"))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/v1/boxes").param("fields", "id").header(HttpHeaders.IF_NONE_MATCH, eTag))
+            .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void listBoxes_rejectsUnknownFields() throws Exception {
+        mockMvc.perform(get("/api/v1/boxes").param("fields", "id,items"))
+            .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/v1/boxes").param("fields", " , "))
+            .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void listItems_returnsOnlyRequestedFields() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/items").param("fields", "name,boxUuid,imageUrl"))
+            .andExpect(status().isOk())
+            .andReturn();
+
+        List<Map<String, Object>> rows = rows(result).stream()
+            .filter(row -> box.getUuid().equals(row.get("boxUuid")))
+            .toList();
+        assertThat(rows).extracting(row -> row.get("name")).containsExactly("Mütze", "Schirm");
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row).containsOnlyKeys("name", "boxUuid", "imageUrl");
+            assertThat(row.get("imageUrl")).isNull();
+        });
+    }
+
+    private Map<String, Object> rowWithId(MvcResult result, Long id) throws Exception {
+        return rows(result).stream()
+            .filter(row -> id.equals(((Number) row.get("id")).longValue()))
+            .findFirst()
+            .orElseThrow();
+    }
+
+    private List<Map<String, Object>> rows(MvcResult result) throws Exception {
+        return objectMapper.readValue(result.getResponse().getContentAsString(), new TypeReference<>() {
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.config.SqlStatementCountFilter;
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static com.boxcopilot.backend.controller.testutil.SqlStatementCountMatchers.sqlStatementCountAtMost;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for per-request SQL statement counting.
+ * Not transactional on purpose, see {@link com.boxcopilot.backend.controller.testutil.SqlStatementCountMatchers}.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SqlStatementCountTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private BoxResponseDTO box;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Küche", "Keller", null));
+        for (String name : new String[] {"Topf", "Pfanne", "Sieb"}) {
+            itemService.createItem(new ItemRequestDTO(name, box.getId()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (box != null) {
+            boxService.deleteBox(box.getId());
+        }
+    }
+
+    @Test
+    void getBoxByUuid_loadsBoxAndItemsWithoutPerItemQueries() throws Exception {
+        mockMvc.perform(get("/api/v1/boxes/{uuid}", box.getUuid()))
+            .andExpect(status().isOk())
+            .andExpect(sqlStatementCountAtMost(2));
+
+        DistributionSummary summary = meterRegistry.find("boxcopilot.http.sql.statements")
+            .tags("method", "GET", "uri", "/api/v1/boxes/{uuid}")
+            .summary();
+        assertThat(summary).isNotNull();
+        assertThat(summary.count()).isPositive();
+    }
+
+    @Test
+    void delete_withoutBody_stillReportsStatementCount() throws Exception {
+        mockMvc.perform(delete("/api/v1/boxes/{id}", box.getId()))
+            .andExpect(status().isNoContent())
+            .andExpect(header().exists(SqlStatementCountFilter.HEADER));
+        box = null;
+    }
+}
@@ -0,0 +1,155 @@
+package com.boxcopilot.backend.controller;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.dto.SyncResponseDTO;
+import com.boxcopilot.backend.service.BoxService;
+import com.boxcopilot.backend.service.ItemService;
+import com.boxcopilot.backend.service.SyncService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for delta sync. Not transactional, so changes are stamped by real commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SyncTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private SyncService syncService;
+
+    private BoxResponseDTO box;
+    private BoxResponseDTO untouchedBox;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Bad", "Keller", null));
+        untouchedBox = boxService.createBox(new BoxRequestDTO("Flur", "Flur", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+        boxService.deleteBox(untouchedBox.getId());
+    }
+
+    @Test
+    void fullSync_returnsEverything() throws Exception {
+        ItemResponseDTO item = itemService.createItem(new ItemRequestDTO("Seife", box.getId()));
+
+        SyncResponseDTO full = sync(0);
+
+        assertThat(full.getBoxes()).extracting(BoxResponseDTO::getId).contains(box.getId(), untouchedBox.getId());
+        assertThat(full.getItems()).extracting(ItemResponseDTO::getId).contains(item.getId());
+        assertThat(full.getDeletedBoxIds()).isEmpty();
+        assertThat(full.getCursor()).isPositive();
+    }
+
+    @Test
+    void deltaSync_returnsOnlyChangesAndDeletionsSinceCursor() throws Exception {
+        ItemResponseDTO kept = itemService.createItem(new ItemRequestDTO("Handtuch", box.getId()));
+        ItemResponseDTO removed = itemService.createItem(new ItemRequestDTO("Bürste", box.getId()));
+        BoxResponseDTO deletedBox = boxService.createBox(new BoxRequestDTO("Alt", "Keller", null));
+        long cursor = sync(0).getCursor();
+
+        ItemResponseDTO added = itemService.createItem(new ItemRequestDTO("Shampoo", box.getId()));
+        itemService.deleteItem(removed.getId());
+        boxService.deleteBox(deletedBox.getId());
+
+        SyncResponseDTO delta = sync(cursor);
+
+        assertThat(delta.getBoxes()).extracting(BoxResponseDTO::getId)
+            .contains(box.getId())
+            .doesNotContain(untouchedBox.getId(), deletedBox.getId());
+        assertThat(delta.getItems()).extracting(ItemResponseDTO::getId)
+            .contains(added.getId())
+            .doesNotContain(kept.getId());
+        assertThat(delta.getDeletedItemIds()).contains(removed.getId());
+        assertThat(delta.getDeletedBoxIds()).contains(deletedBox.getId());
+        assertThat(delta.getCursor()).isGreaterThan(cursor);
+
+        SyncResponseDTO empty = sync(delta.getCursor());
+        assertThat(empty.getBoxes()).isEmpty();
+        assertThat(empty.getItems()).isEmpty();
+        assertThat(empty.getCursor()).isEqualTo(delta.getCursor());
+    }
+
+    @Test
+    void deltaSync_listsDeletedBoxWithoutItsItems() throws Exception {
+        BoxResponseDTO deletedBox = boxService.createBox(new BoxRequestDTO("Alt", "Keller", null));
+        ItemResponseDTO item = itemService.createItem(new ItemRequestDTO("Lampe", deletedBox.getId()));
+        SyncResponseDTO full = sync(0);
+        Map<Long, ItemResponseDTO> clientItems = new HashMap<>();
+        full.getItems().forEach(synced -> clientItems.put(synced.getId(), synced));
+
+        boxService.deleteBox(deletedBox.getId());
+        SyncResponseDTO delta = sync(full.getCursor());
+
+        // No item tombstones: clients drop the items of deleted boxes, which matches a full sync
+        assertThat(delta.getDeletedBoxIds()).containsExactly(deletedBox.getId());
+        assertThat(delta.getDeletedItemIds()).doesNotContain(item.getId());
+        delta.getItems().forEach(synced -> clientItems.put(synced.getId(), synced));
+        clientItems.values().removeIf(synced -> delta.getDeletedBoxIds().contains(synced.getBoxId()));
+        assertThat(clientItems.keySet())
+            .containsExactlyInAnyOrderElementsOf(sync(0).getItems().stream().map(ItemResponseDTO::getId).toList());
+    }
+
+    @Test
+    void deltaSync_behindPrunedTombstones_returnsFullResync() throws Exception {
+        BoxResponseDTO deletedBox = boxService.createBox(new BoxRequestDTO("Alt", "Keller", null));
+        long staleCursor = sync(0).getCursor();
+        boxService.deleteBox(deletedBox.getId());
+        long currentCursor = sync(staleCursor).getCursor();
+
+        syncService.pruneTombstones(Instant.now().plusSeconds(1));
+
+        SyncResponseDTO resync = sync(staleCursor);
+        assertThat(resync.isResync()).isTrue();
+        assertThat(resync.getBoxes()).extracting(BoxResponseDTO::getId)
+            .contains(box.getId(), untouchedBox.getId())
+            .doesNotContain(deletedBox.getId());
+        assertThat(resync.getDeletedBoxIds()).isEmpty();
+
+        SyncResponseDTO upToDate = sync(currentCursor);
+        assertThat(upToDate.isResync()).isFalse();
+        assertThat(upToDate.getBoxes()).isEmpty();
+    }
+
+    private SyncResponseDTO sync(long since) throws Exception {
+        String json = mockMvc.perform(get("/api/v1/sync").param("since", String.valueOf(since)))
+            .andExpect(status().isOk())
+            .andReturn().getResponse().getContentAsString();
+        return objectMapper.readValue(json, SyncResponseDTO.class);
+    }
+}
@@ -0,0 +1,40 @@
+package com.boxcopilot.backend.controller.testutil;
+
+import com.boxcopilot.backend.config.SqlStatementCountFilter;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultMatcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MockMvc matchers for the number of SQL statements a request executed, read from the
+ * X-SQL-Statement-Count header (enabled in the test profile).
+ * Usage: mockMvc.perform(get(...)).andExpect(sqlStatementCountAtMost(2))
+ *
+ * Run these tests without @Transactional: a test transaction shares the persistence context with the
+ * request, so entities loaded during setup are not fetched again and N+1 queries stay hidden.
+ */
+public final class SqlStatementCountMatchers {
+
+    private SqlStatementCountMatchers() {
+    }
+
+    public static ResultMatcher sqlStatementCount(int expected) {
+        return result -> assertThat(statementCount(result))
+            .as("SQL statements executed by %s", result.getRequest().getRequestURI())
+            .isEqualTo(expected);
+    }
+
+    public static ResultMatcher sqlStatementCountAtMost(int max) {
+        return result -> assertThat(statementCount(result))
+            .as("SQL statements executed by %s", result.getRequest().getRequestURI())
+            .isLessThanOrEqualTo(max);
+    }
+
+    private static int statementCount(MvcResult result) {
+        String header = result.getResponse().getHeader(SqlStatementCountFilter.HEADER);
+        assertThat(header).as("%s header (app.sql.statement-count-header enabled?)", SqlStatementCountFilter.HEADER)
+            .isNotNull();
+        return Integer.parseInt(header);
+    }
+}
@@ -0,0 +1,46 @@
+package com.boxcopilot.backend.mapper;
+
+import com.boxcopilot.backend.mapper.ItemImageUrls.Rendition;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ItemImageUrlsTest {
+
+    private final ItemImageUrls imageUrls = new ItemImageUrls(new SimpleMeterRegistry(), "", 100);
+
+    @Test
+    void get_rendersRelativeUrlsPerRendition() {
+        assertThat(imageUrls.get("1_thumb.jpg", "abc", 42L, Rendition.THUMBNAIL))
+            .isEqualTo("/api/v1/public/items/abc/image?t=42");
+        assertThat(imageUrls.get("1_thumb.jpg", "abc", 42L, Rendition.LARGE))
+            .isEqualTo("/api/v1/public/items/abc/image/large?t=42");
+        assertThat(imageUrls.get("1_thumb.jpg", "abc", null, Rendition.THUMBNAIL))
+            .isEqualTo("/api/v1/public/items/abc/image");
+    }
+
+    @Test
+    void get_returnsNullWithoutImage() {
+        assertThat(imageUrls.get(null, "abc", 42L, Rendition.THUMBNAIL)).isNull();
+        assertThat(imageUrls.get(" ", "abc", 42L, Rendition.THUMBNAIL)).isNull();
+        assertThat(imageUrls.get("1_thumb.jpg", null, 42L, Rendition.THUMBNAIL)).isNull();
+    }
+
+    @Test
+    void get_reusesUrlsUntilTheImageChanges() {
+        String first = imageUrls.get("1_thumb.jpg", "abc", 42L, Rendition.THUMBNAIL);
+
+        assertThat(imageUrls.get("1_thumb.jpg", "abc", 42L, Rendition.THUMBNAIL)).isSameAs(first);
+        assertThat(imageUrls.get("1_thumb.jpg", "abc", 43L, Rendition.THUMBNAIL))
+            .isEqualTo("/api/v1/public/items/abc/image?t=43");
+    }
+
+    @Test
+    void get_prefixesConfiguredBaseUrl() {
+        ItemImageUrls cdn = new ItemImageUrls(new SimpleMeterRegistry(), "https://images.example.com/", 100);
+
+        assertThat(cdn.get("1_thumb.jpg", "abc", 42L, Rendition.LARGE))
+            .isEqualTo("https://images.example.com/api/v1/public/items/abc/image/large?t=42");
+    }
+}
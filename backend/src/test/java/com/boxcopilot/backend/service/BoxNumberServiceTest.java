@@ -2,11 +2,14 @@ package com.boxcopilot.backend.service;
 
 import com.boxcopilot.backend.domain.BoxNumberPool;
 import com.boxcopilot.backend.repository.BoxNumberPoolRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
@@ -25,6 +28,9 @@ class BoxNumberServiceTest {
     @Mock
     private BoxNumberPoolRepository poolRepository;
 
+    @Spy
+    private MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @InjectMocks
     private BoxNumberService boxNumberService;
 
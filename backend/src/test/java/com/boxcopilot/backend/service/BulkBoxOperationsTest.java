@@ -0,0 +1,145 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.config.SqlStatementCounter;
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.BoxUpdateDTO;
+import com.boxcopilot.backend.dto.BulkOperationResultDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.dto.SyncResponseDTO;
+import com.boxcopilot.backend.repository.BoxNumberPoolRepository;
+import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for set-based bulk box updates and deletes. Not transactional, so the bulk statements
+ * and their change stamping run as one real transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkBoxOperationsTest {
+
+    private static final long MISSING_ID = 987_654_321L;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private BoxRepository boxRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private BoxNumberPoolRepository poolRepository;
+
+    private final List<Long> createdBoxIds = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBoxes(createdBoxIds);
+    }
+
+    @Test
+    void updateBoxes_appliesOnlyGivenFieldsAndReportsMissingIds() {
+        BoxResponseDTO first = createBox("Keller");
+        BoxResponseDTO second = createBox("Garage");
+        long cursor = syncService.getChangesSince(0, false).getCursor();
+        BoxUpdateDTO changes = new BoxUpdateDTO();
+        changes.setIsMovedToTarget(true);
+        changes.setLabelPrinted(true);
+
+        BulkOperationResultDTO result = boxService.updateBoxes(
+            List.of(first.getId(), second.getId(), MISSING_ID), changes);
+
+        assertThat(result.getProcessedIds()).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(result.getMissingIds()).containsExactly(MISSING_ID);
+        BoxResponseDTO updated = boxService.getBoxById(first.getId());
+        assertThat(updated.getIsMovedToTarget()).isTrue();
+        assertThat(updated.getLabelPrinted()).isTrue();
+        assertThat(updated.getCurrentRoom()).isEqualTo("Keller");
+        assertThat(updated.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(syncService.getChangesSince(cursor, false).getBoxes()).extracting(BoxResponseDTO::getId)
+            .containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    @Test
+    void updateBoxes_statementCountDoesNotGrowWithBoxCount() {
+        BoxUpdateDTO changes = new BoxUpdateDTO();
+        changes.setLabelPrinted(true);
+
+        List<Long> few = seedBoxes(25);
+        List<Long> many = seedBoxes(150);
+
+        int fewBoxes = countStatements(() -> boxService.updateBoxes(few, changes));
+        int manyBoxes = countStatements(() -> boxService.updateBoxes(many, changes));
+
+        assertThat(manyBoxes).isEqualTo(fewBoxes);
+    }
+
+    @Test
+    void deleteBoxes_deletesItemsAndReleasesBoxNumbers() {
+        BoxResponseDTO first = createBox("Keller");
+        BoxResponseDTO second = createBox("Garage");
+        Long itemId = itemService.createItem(new ItemRequestDTO("Bohrer", first.getId())).getId();
+        long cursor = syncService.getChangesSince(0, false).getCursor();
+
+        BulkOperationResultDTO result = boxService.deleteBoxes(List.of(first.getId(), second.getId(), MISSING_ID));
+
+        assertThat(result.getProcessedIds()).containsExactlyInAnyOrder(first.getId(), second.getId());
+        assertThat(result.getMissingIds()).containsExactly(MISSING_ID);
+        assertThat(boxRepository.findAllById(List.of(first.getId(), second.getId()))).isEmpty();
+        assertThat(itemRepository.findById(itemId)).isEmpty();
+        assertThat(poolRepository.findAvailableNumbers()).contains(first.getBoxNumber(), second.getBoxNumber());
+        SyncResponseDTO delta = syncService.getChangesSince(cursor, true);
+        assertThat(delta.getDeletedBoxIds()).containsExactlyInAnyOrder(first.getId(), second.getId());
+    }
+
+    private BoxResponseDTO createBox(String room) {
+        BoxResponseDTO box = boxService.createBox(new BoxRequestDTO(room, "Neues Haus", null));
+        createdBoxIds.add(box.getId());
+        return box;
+    }
+
+    // Seeds through the repository in one transaction; only the operation under test goes through the service
+    private List<Long> seedBoxes(int count) {
+        List<Box> boxes = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            boxes.add(new Box(UUID.randomUUID().toString(), "Keller", "Neues Haus", null));
+        }
+        List<Long> ids = boxRepository.saveAll(boxes).stream().map(Box::getId).toList();
+        createdBoxIds.addAll(ids);
+        return ids;
+    }
+
+    private int countStatements(Runnable operation) {
+        statementCounter.start();
+        try {
+            operation.run();
+            return statementCounter.current();
+        } finally {
+            statementCounter.stop();
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.config.SqlStatementCounter;
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.BulkOperationResultDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the set-based bulk move. Not transactional, so the move and its change
+ * stamping run as one real transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class BulkMoveItemsTest {
+
+    private static final long MISSING_ID = 987_654_321L;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private SyncService syncService;
+
+    @Autowired
+    private SqlStatementCounter statementCounter;
+
+    @Autowired
+    private BoxRepository boxRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private BoxResponseDTO source;
+    private BoxResponseDTO target;
+
+    @BeforeEach
+    void setUp() {
+        source = boxService.createBox(new BoxRequestDTO("Diverses", "Keller", null));
+        target = boxService.createBox(new BoxRequestDTO("Werkstatt", "Garage", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(source.getId());
+        boxService.deleteBox(target.getId());
+    }
+
+    @Test
+    void moveItems_movesExistingItemsAndReportsMissingIds() {
+        List<Long> ids = createItems(5);
+        List<Long> requested = new ArrayList<>(ids);
+        requested.add(MISSING_ID);
+
+        BulkOperationResultDTO result = itemService.moveItems(requested, target.getId());
+
+        assertThat(result.getRequested()).isEqualTo(6);
+        assertThat(result.getProcessedIds()).containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(result.getMissingIds()).containsExactly(MISSING_ID);
+        assertThat(itemService.getItemsByBoxUuid(target.getUuid())).extracting(ItemResponseDTO::getId)
+            .containsExactlyInAnyOrderElementsOf(ids);
+        assertThat(itemService.getItemsByBoxUuid(source.getUuid())).isEmpty();
+        assertThat(boxService.getBoxByUuid(source.getUuid()).getItems()).isEmpty();
+    }
+
+    @Test
+    void moveItems_statementCountDoesNotGrowWithItemCount() {
+        int fewItems = countStatements(createItems(25));
+        int manyItems = countStatements(createItems(200));
+
+        assertThat(manyItems).isEqualTo(fewItems);
+    }
+
+    @Test
+    void moveItems_bulkMovedItemsAreReportedBySync() {
+        List<Long> ids = createItems(30);
+        long cursor = syncService.getChangesSince(0, false).getCursor();
+
+        itemService.moveItems(ids, target.getId());
+
+        assertThat(syncService.getChangesSince(cursor, true).getItems()).extracting(ItemResponseDTO::getId)
+            .containsExactlyInAnyOrderElementsOf(ids);
+    }
+
+    private int countStatements(List<Long> ids) {
+        statementCounter.start();
+        try {
+            itemService.moveItems(ids, target.getId());
+            return statementCounter.current();
+        } finally {
+            statementCounter.stop();
+        }
+    }
+
+    // Seeds through the repository in one transaction; only the move under test goes through the service
+    private List<Long> createItems(int count) {
+        Box box = boxRepository.findById(source.getId()).orElseThrow();
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            items.add(new Item(box, "Teil " + i));
+        }
+        return itemRepository.saveAll(items).stream().map(Item::getId).toList();
+    }
+}
@@ -0,0 +1,81 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Concurrent item changes in the same box. Not transactional, so every change commits and stamps the box
+ * in its own transaction.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ConcurrentItemChangesTest {
+
+    private static final int WRITERS = 2;
+    private static final int ITEMS_PER_WRITER = 20;
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private InventoryVersionService versionService;
+
+    private BoxResponseDTO box;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Küche", "Keller", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+    }
+
+    @Test
+    void createItem_parallelCreatesInOneBoxAllSucceed() throws Exception {
+        long versionBefore = versionService.getBoxVersion(box.getUuid()).orElseThrow();
+        CyclicBarrier start = new CyclicBarrier(WRITERS);
+
+        List<Future<?>> writers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(WRITERS)) {
+            for (int w = 0; w < WRITERS; w++) {
+                int writer = w;
+                writers.add(executor.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < ITEMS_PER_WRITER; i++) {
+                        itemService.createItem(new ItemRequestDTO("Teller " + writer + "-" + i, box.getId()));
+                    }
+                    return null;
+                }));
+            }
+        }
+        for (Future<?> writer : writers) {
+            // Rethrows a failed create, e.g. an optimistic locking failure on the shared box
+            writer.get(1, TimeUnit.MINUTES);
+        }
+
+        assertThat(itemService.getItemsByBoxUuid(box.getUuid())).hasSize(WRITERS * ITEMS_PER_WRITER);
+        assertThat(versionService.getBoxVersion(box.getUuid())).contains(versionBefore + WRITERS * ITEMS_PER_WRITER);
+    }
+}
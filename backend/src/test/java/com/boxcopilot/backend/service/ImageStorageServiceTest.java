@@ -0,0 +1,87 @@
+package com.boxcopilot.backend.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.micrometer.core.instrument.observation.DefaultMeterObservationHandler;
+import io.micrometer.observation.ObservationRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ImageStorageService.
+ */
+class ImageStorageServiceTest {
+
+    @TempDir
+    Path storageDirectory;
+
+    private MeterRegistry meterRegistry;
+    private ImageStorageService imageStorageService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        ObservationRegistry observationRegistry = ObservationRegistry.create();
+        observationRegistry.observationConfig().observationHandler(new DefaultMeterObservationHandler(meterRegistry));
+
+        imageStorageService = new ImageStorageService(observationRegistry);
+        ReflectionTestUtils.setField(imageStorageService, "storagePath", storageDirectory.toString());
+        imageStorageService.init();
+    }
+
+    @Test
+    void saveImage_storesBothRenditionsWithinBounds() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", png(2000, 1000));
+
+        // When
+        String thumbnail = imageStorageService.saveImage(7L, file);
+
+        // Then
+        assertThat(thumbnail).isEqualTo("7_thumb.jpg");
+        BufferedImage thumb = ImageIO.read(storageDirectory.resolve("7_thumb.jpg").toFile());
+        BufferedImage large = ImageIO.read(storageDirectory.resolve("7_large.jpg").toFile());
+        assertThat(thumb.getWidth()).isEqualTo(200);
+        assertThat(thumb.getHeight()).isEqualTo(100);
+        assertThat(large.getWidth()).isEqualTo(1024);
+        assertThat(large.getHeight()).isEqualTo(512);
+    }
+
+    @Test
+    void saveImage_timesEachProcessingPhase() throws IOException {
+        // Given
+        MockMultipartFile file = new MockMultipartFile("file", "photo.png", "image/png", png(400, 300));
+
+        // When
+        imageStorageService.saveImage(8L, file);
+
+        // Then
+        for (String phase : new String[] {"process", "write"}) {
+            for (String rendition : new String[] {"thumbnail", "large"}) {
+                assertThat(meterRegistry.find("boxcopilot.image.processing")
+                        .tag("phase", phase).tag("rendition", rendition).timer())
+                    .as("timer for phase %s of %s", phase, rendition)
+                    .isNotNull()
+                    .satisfies(timer -> assertThat(timer.count()).isPositive());
+            }
+        }
+    }
+
+    private static byte[] png(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", out);
+        return out.toByteArray();
+    }
+}
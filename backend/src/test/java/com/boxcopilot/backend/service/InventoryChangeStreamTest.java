@@ -0,0 +1,92 @@
+package com.boxcopilot.backend.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InventoryChangeStreamTest {
+
+    private InventoryChangeStream stream;
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    @BeforeEach
+    void setUp() {
+        stream = new InventoryChangeStream(new SimpleMeterRegistry(), Duration.ofMinutes(30), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        stream.shutdown();
+    }
+
+    @Test
+    void slowSubscriberDoesNotDelayOthers() throws Exception {
+        stream.register(new BlockingEmitter());
+        CountingEmitter fast = new CountingEmitter(3);
+        stream.register(fast);
+
+        for (int i = 0; i < 3; i++) {
+            stream.onInventoryChange(InventoryChangedEvent.of("box-" + i));
+        }
+
+        assertThat(fast.received.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void subscriberTooFarBehindIsDropped() throws Exception {
+        BlockingEmitter slow = new BlockingEmitter();
+        stream.register(slow);
+
+        // One event is stuck in send, the rest fill the queue and the last one overflows it
+        for (int i = 0; i < InventoryChangeStream.MAX_PENDING + 2; i++) {
+            stream.onInventoryChange(InventoryChangedEvent.of("box-" + i));
+        }
+        release.countDown();
+
+        assertThat(slow.completedWithError.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private class BlockingEmitter extends SseEmitter {
+
+        final CountDownLatch completedWithError = new CountDownLatch(1);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException(e);
+            }
+        }
+
+        @Override
+        public void completeWithError(Throwable ex) {
+            completedWithError.countDown();
+        }
+    }
+
+    private static class CountingEmitter extends SseEmitter {
+
+        final CountDownLatch received;
+
+        CountingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.countDown();
+        }
+    }
+}
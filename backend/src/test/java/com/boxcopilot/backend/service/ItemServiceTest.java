@@ -0,0 +1,67 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.repository.BoxRepository;
+import com.boxcopilot.backend.repository.ItemRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for ItemService.
+ * Not transactional on purpose: the image token backfill commits its chunks in separate transactions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ItemServiceTest {
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private BoxRepository boxRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    private Box box;
+
+    @AfterEach
+    void tearDown() {
+        if (box != null) {
+            boxRepository.deleteById(box.getId());
+        }
+    }
+
+    @Test
+    void ensureImageTokens_backfillsOnlyItemsWithoutToken() {
+        // Given
+        box = boxRepository.save(new Box(UUID.randomUUID().toString(), "Keller", "Garage", null));
+        Item legacy1 = itemRepository.save(new Item(box, "Hammer"));
+        Item legacy2 = itemRepository.save(new Item(box, "Zange"));
+        Item withToken = new Item(box, "Schraubenzieher");
+        withToken.setImageToken("existing-token");
+        withToken = itemRepository.save(withToken);
+
+        // When
+        itemService.ensureImageTokens();
+
+        // Then
+        List<Item> items = itemRepository.findAllById(List.of(legacy1.getId(), legacy2.getId(), withToken.getId()));
+        assertThat(items).extracting(Item::getImageToken).doesNotContainNull().doesNotHaveDuplicates();
+        assertThat(itemRepository.findById(withToken.getId()))
+            .get()
+            .extracting(Item::getImageToken)
+            .isEqualTo("existing-token");
+        assertThat(itemRepository.findWithoutImageToken(Pageable.unpaged())).isEmpty();
+    }
+}
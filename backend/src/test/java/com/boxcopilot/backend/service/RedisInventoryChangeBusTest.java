@@ -0,0 +1,77 @@
+package com.boxcopilot.backend.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RedisInventoryChangeBusTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Mock
+    private InventoryChangeSubscriber changeStream;
+
+    @Mock
+    private InventoryChangeSubscriber previewCache;
+
+    private RedisInventoryChangeBus bus;
+
+    @BeforeEach
+    void setUp() {
+        bus = new RedisInventoryChangeBus(redisTemplate, objectMapper, List.of(changeStream, previewCache),
+            listenerContainer);
+    }
+
+    @Test
+    void onMessage_deliversRemoteChangeToEverySubscriber() throws Exception {
+        InventoryChangedEvent change = InventoryChangedEvent.of("box-1");
+        byte[] body = objectMapper.writeValueAsString(change).getBytes(StandardCharsets.UTF_8);
+
+        bus.onMessage(new DefaultMessage(RedisInventoryChangeBus.CHANNEL.getBytes(StandardCharsets.UTF_8), body),
+            null);
+
+        verify(changeStream).onInventoryChange(change);
+        verify(previewCache).onInventoryChange(change);
+    }
+
+    @Test
+    void publish_deliversLocallyWhenRedisIsUnavailable() {
+        InventoryChangedEvent change = InventoryChangedEvent.of("box-1");
+        doThrow(new RedisConnectionFailureException("down"))
+            .when(redisTemplate).convertAndSend(eq(RedisInventoryChangeBus.CHANNEL), anyString());
+
+        bus.publish(change);
+
+        verify(changeStream).onInventoryChange(change);
+        verify(previewCache).onInventoryChange(change);
+    }
+
+    @Test
+    void publish_leavesLocalDeliveryToTheChannel() {
+        bus.publish(InventoryChangedEvent.of("box-1"));
+
+        verify(redisTemplate).convertAndSend(eq(RedisInventoryChangeBus.CHANNEL), anyString());
+        verifyNoInteractions(changeStream, previewCache);
+    }
+}
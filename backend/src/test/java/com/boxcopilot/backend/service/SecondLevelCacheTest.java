@@ -0,0 +1,136 @@
+package com.boxcopilot.backend.service;
+
+import com.boxcopilot.backend.domain.Box;
+import com.boxcopilot.backend.domain.CacheRegions;
+import com.boxcopilot.backend.domain.Item;
+import com.boxcopilot.backend.dto.BoxRequestDTO;
+import com.boxcopilot.backend.dto.BoxResponseDTO;
+import com.boxcopilot.backend.dto.ItemRequestDTO;
+import com.boxcopilot.backend.dto.ItemResponseDTO;
+import com.boxcopilot.backend.repository.BoxRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Hibernate second-level cache.
+ * Not transactional on purpose: cache hits only show up across sessions.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class SecondLevelCacheTest {
+
+    @Autowired
+    private BoxService boxService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private BoxRepository boxRepository;
+
+    private BoxResponseDTO box;
+    private BoxResponseDTO otherBox;
+
+    @BeforeEach
+    void setUp() {
+        box = boxService.createBox(new BoxRequestDTO("Flur", "Keller", null));
+        otherBox = boxService.createBox(new BoxRequestDTO("Flur", "Garage", null));
+    }
+
+    @AfterEach
+    void tearDown() {
+        boxService.deleteBox(box.getId());
+        boxService.deleteBox(otherBox.getId());
+    }
+
+    @Test
+    void getBoxById_repeatedRead_servedFromCache() {
+        boxService.getBoxById(box.getId());
+        long hitsBefore = regionStatistics(CacheRegions.BOX).getHitCount();
+
+        boxService.getBoxById(box.getId());
+
+        assertThat(regionStatistics(CacheRegions.BOX).getHitCount()).isGreaterThan(hitsBefore);
+    }
+
+    @Test
+    void createAndMoveItem_evictCachedItemCollections() {
+        ItemResponseDTO item = itemService.createItem(new ItemRequestDTO("Besen", box.getId()));
+        // Loads and caches Box.items of both boxes
+        assertThat(boxService.getBoxById(box.getId()).getItems()).extracting(ItemResponseDTO::getName)
+            .containsExactly("Besen");
+        assertThat(boxService.getBoxById(otherBox.getId()).getItems()).isEmpty();
+
+        itemService.moveItem(item.getId(), otherBox.getId());
+
+        assertThat(boxService.getBoxById(box.getId()).getItems()).isEmpty();
+        assertThat(boxService.getBoxById(otherBox.getId()).getItems()).extracting(ItemResponseDTO::getName)
+            .containsExactly("Besen");
+    }
+
+    @Test
+    void createItem_keepsBoxCached() {
+        boxService.getBoxById(box.getId());
+
+        itemService.createItem(new ItemRequestDTO("Besen", box.getId()));
+        long hitsBefore = regionStatistics(CacheRegions.BOX).getHitCount();
+
+        boxService.getBoxById(box.getId());
+        boxService.getBoxById(otherBox.getId());
+
+        assertThat(regionStatistics(CacheRegions.BOX).getHitCount()).isEqualTo(hitsBefore + 2);
+    }
+
+    @Test
+    void remoteChange_evictsAffectedEntries() {
+        ItemResponseDTO item = itemService.createItem(new ItemRequestDTO("Besen", box.getId()));
+        boxService.getBoxById(box.getId());
+        boxService.getBoxById(otherBox.getId());
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertThat(cache.containsEntity(Box.class, box.getId())).isTrue();
+        assertThat(cache.containsEntity(Item.class, item.getId())).isTrue();
+        assertThat(cache.containsCollection(Box.class.getName() + ".items", box.getId())).isTrue();
+
+        // Only active in prod; a change that arrived through Redis from another replica
+        new SecondLevelCacheInvalidator(entityManagerFactory, boxRepository).onInventoryChange(
+            new InventoryChangedEvent(Set.of(box.getUuid()), Set.of(item.getId()), Set.of(), Set.of()));
+
+        assertThat(cache.containsEntity(Box.class, box.getId())).isFalse();
+        assertThat(cache.containsEntity(Item.class, item.getId())).isFalse();
+        assertThat(cache.containsCollection(Box.class.getName() + ".items", box.getId())).isFalse();
+        assertThat(cache.containsEntity(Box.class, otherBox.getId())).isTrue();
+        assertThat(cache.containsCollection(Box.class.getName() + ".items", otherBox.getId())).isTrue();
+    }
+
+    @Test
+    void remoteBoxDeletion_evictsDeletedBoxById() {
+        boxService.getBoxById(otherBox.getId());
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        assertThat(cache.containsEntity(Box.class, otherBox.getId())).isTrue();
+
+        // The UUID of a deleted box no longer resolves; the change carries its id
+        new SecondLevelCacheInvalidator(entityManagerFactory, boxRepository).onInventoryChange(
+            InventoryChangedEvent.boxDeleted("deleted-elsewhere", otherBox.getId()));
+
+        assertThat(cache.containsEntity(Box.class, otherBox.getId())).isFalse();
+    }
+
+    private CacheRegionStatistics regionStatistics(String region) {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics().getCacheRegionStatistics(region);
+    }
+}
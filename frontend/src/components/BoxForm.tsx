@@ -72,6 +72,7 @@ const BoxForm: React.FC<BoxFormProps> = ({ data, onChange }) => {
         multiline
         rows={4}
         placeholder={t('boxes.placeholderDescription')}
+        inputProps={{ maxLength: 2000 }}
       />
       
       <Box sx={{ p: 2, bgcolor: 'action.hover', borderRadius: 1, border: 1, borderColor: 'divider' }}>
@@ -154,10 +154,9 @@ const EnhancedItemsTable: React.FC<EnhancedItemsTableProps> = ({
     setImageDialogOpen(true);
   };
 
-  const handleImageClick = (itemId: number, imageUrl: string) => {
-    // Convert thumbnail URL to large image URL
-    const largeImageUrl = imageUrl.replace('/image', '/image/large');
-    setFullImageUrl(withApiBase(largeImageUrl));
+  const handleImageClick = (itemId: number, imageUrl: string, largeImageUrl?: string) => {
+    // Older responses carry only the thumbnail URL; derive the large one from its path
+    setFullImageUrl(resolveImageUrl(largeImageUrl ?? imageUrl.replace(/\/image(\?|$)/, '/image/large$1')) ?? null);
   };
 
   const handleOpenItemActions = (item: Item) => {
@@ -265,7 +264,7 @@ const EnhancedItemsTable: React.FC<EnhancedItemsTableProps> = ({
                   sx={{ width: 48, height: 48, cursor: 'pointer' }}
                   onClick={(e) => {
                     e.stopPropagation();
-                    handleImageClick(item.id, item.imageUrl!);
+                    handleImageClick(item.id, item.imageUrl!, item.largeImageUrl);
                   }}
                 />
               ) : (
@@ -1,7 +1,7 @@
 import { useState, useEffect, useMemo, createElement } from 'react';
 import { useNavigate } from 'react-router-dom';
 import { Box as BoxModel, CreateBoxPayload, Item } from '../types/models';
-import { fetchBoxes, createBox, deleteBox } from '../services/boxService';
+import { syncBoxes, createBox, deleteBox } from '../services/boxService';
 import { fetchItemsByBoxUuid, searchItems } from '../services/itemService';
 import { useTranslation } from './useTranslation';
 
@@ -89,11 +89,42 @@ export const useBoxListLogic = () => {
     return withApiBase(url.startsWith('/') ? url : `/${url}`);
   };
 
+  const withPublicUrls = (boxes: BoxModel[]) =>
+    boxes
+      .sort((a, b) => (b.boxNumber || 0) - (a.boxNumber || 0))
+      .map((b) => ({
+        ...b,
+        publicUrl: `${window.location.origin}/public/${b.uuid}`,
+      })) as BoxModel[];
+
   // === Effects ===
   useEffect(() => {
     loadData();
   }, []);
 
+  // Changes by other users arrive as server-sent events; pull them through delta sync
+  useEffect(() => {
+    const events = new EventSource(withApiBase('/api/v1/events'), { withCredentials: true });
+    let timeoutId: ReturnType<typeof setTimeout> | undefined;
+    const scheduleSync = () => {
+      clearTimeout(timeoutId);
+      timeoutId = setTimeout(async () => {
+        try {
+          setAllBoxes(withPublicUrls(await syncBoxes()));
+        } catch {
+          // The next event or page visit syncs again
+        }
+      }, 300);
+    };
+    events.addEventListener('inventory-changed', scheduleSync);
+    // Fires on every (re)connect: catches up on changes made while the stream was down
+    events.addEventListener('open', scheduleSync);
+    return () => {
+      clearTimeout(timeoutId);
+      events.close();
+    };
+  }, []);
+
   useEffect(() => {
     if (allBoxes.length === 0 && !isLoading) {
       return;
@@ -110,14 +141,7 @@ export const useBoxListLogic = () => {
   const loadData = async () => {
     setIsLoading(true);
     try {
-      const boxes = await fetchBoxes({ includeItems: false });
-
-      const withUrls = boxes
-        .sort((a, b) => (b.boxNumber || 0) - (a.boxNumber || 0))
-        .map((b) => ({
-          ...b,
-          publicUrl: `${window.location.origin}/public/${b.uuid}`,
-        })) as BoxModel[];
+      const withUrls = withPublicUrls(await syncBoxes());
 
       setAllBoxes(withUrls);
       setFilteredBoxes(withUrls);
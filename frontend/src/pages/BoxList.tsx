@@ -54,7 +54,7 @@ import {
   DoneAll,
 } from '@mui/icons-material';
 import { Box as BoxModel } from '../types/models';
-import { updateBox } from '../services/boxService';
+import { updateBoxes } from '../services/boxService';
 import { truncateToFirstLine } from '../utils/textUtils';
 import { useTranslation } from '../hooks/useTranslation';
 import { LabelGenerationProgress } from '../components/LabelGenerationProgress';
@@ -136,7 +136,6 @@ export default function BoxList() {
     drawerOpen,
     selectedBoxForActions,
     resolveImageUrl,
-    withApiBase,
     getBoxItems,
     getBoxItemCount,
     isLoadingItemsForBox,
@@ -167,9 +166,7 @@ export default function BoxList() {
     const allMoved = selectedBoxes.every((b) => b.isMovedToTarget);
     
     try {
-      await Promise.all(
-        selectedBoxes.map((box) => updateBox(box.id, { isMovedToTarget: !allMoved }))
-      );
+      await updateBoxes(selectedBoxes.map((box) => box.id), { isMovedToTarget: !allMoved });
       setBulkMenuAnchor(null);
       await loadData();
     } catch (err) {
@@ -183,9 +180,7 @@ export default function BoxList() {
     const allPrinted = selectedBoxes.every((b) => b.labelPrinted);
     
     try {
-      await Promise.all(
-        selectedBoxes.map((box) => updateBox(box.id, { labelPrinted: !allPrinted }))
-      );
+      await updateBoxes(selectedBoxes.map((box) => box.id), { labelPrinted: !allPrinted });
       setBulkMenuAnchor(null);
       await loadData();
     } catch (err) {
@@ -216,9 +211,10 @@ export default function BoxList() {
     
     if (setLabelPrintedAfterPrint) {
       try {
-        await Promise.all(
-          selectedBoxes.map((box) => !box.labelPrinted ? updateBox(box.id, { labelPrinted: true }) : Promise.resolve())
-        );
+        const unprintedIds = selectedBoxes.filter((box) => !box.labelPrinted).map((box) => box.id);
+        if (unprintedIds.length > 0) {
+          await updateBoxes(unprintedIds, { labelPrinted: true });
+        }
       } catch (err) {
         console.error('Failed to update labelPrinted status', err);
       }
@@ -378,7 +374,7 @@ export default function BoxList() {
                         sx={{ width: 40, height: 40, cursor: 'pointer', flexShrink: 0 }}
                         onClick={() => {
                           if (item.imageUrl) {
-                            setFullImageUrl(withApiBase(item.imageUrl.replace('/image', '/image/large')));
+                            setFullImageUrl(resolveImageUrl(item.largeImageUrl ?? item.imageUrl.replace(/\/image(\?|$)/, '/image/large$1')) ?? null);
                           }
                         }}
                       />
@@ -404,7 +400,7 @@ export default function BoxList() {
         </Collapse>
       </Box>
     </Paper>
-  ), [selectedIds, expandedBoxes, t, resolveImageUrl, withApiBase, matchedItemIds, theme]);
+  ), [selectedIds, expandedBoxes, t, resolveImageUrl, matchedItemIds, theme]);
 
   return (
     <Box sx={{ width: '100%', pb: 4 }}>
@@ -582,6 +578,7 @@ export default function BoxList() {
               value={boxFormData.description || ''}
               onChange={(e) => setBoxFormData({ ...boxFormData, description: e.target.value })}
               placeholder={t('boxes.placeholderDescription')}
+              inputProps={{ maxLength: 2000 }}
             />
             <Box sx={{ p: 2, bgcolor: 'action.hover', borderRadius: 1, border: 1, borderColor: 'divider' }}>
               <Typography variant="subtitle2" fontWeight={600} sx={{ mb: 1.5 }}>
@@ -194,7 +194,7 @@ function PublicPreviewContent() {
                               alt={item.name}
                               loading="lazy"
                               sx={{ width: 50, height: 50, cursor: 'pointer' }}
-                              onClick={() => item.imageUrl && setFullImageUrl(withApiBase(item.imageUrl.replace('/image', '/image/large')))}
+                              onClick={() => item.imageUrl && setFullImageUrl(resolveImageUrl(item.largeImageUrl ?? item.imageUrl.replace(/\/image(\?|$)/, '/image/large$1')) ?? null)}
                             />
                           ) : (
                             <Avatar sx={{ width: 50, height: 50, bgcolor: 'grey.300' }}>
@@ -1,5 +1,5 @@
 import axios from './axiosConfig';
-import { Box, CreateBoxPayload, UpdateBoxPayload } from '../types/models';
+import { Box, BulkOperationResult, CreateBoxPayload, SyncResponse, UpdateBoxPayload } from '../types/models';
 
 type FetchBoxesOptions = {
   includeItems?: boolean;
@@ -14,6 +14,27 @@ export async function fetchBoxes(options: FetchBoxesOptions = {}): Promise<Box[]
   return response.data;
 }
 
+// Box summaries kept across page visits, so returning to the list only fetches changes since the last sync
+let syncedBoxes = new Map<number, Box>();
+let syncCursor = 0;
+
+export async function syncBoxes(): Promise<Box[]> {
+  const response = await axios.get<SyncResponse>('/api/v1/sync', {
+    params: {
+      since: syncCursor,
+      includeItems: false,
+    },
+  });
+  const { cursor, resync, boxes, deletedBoxIds } = response.data;
+  if (syncCursor === 0 || resync) {
+    syncedBoxes = new Map();
+  }
+  boxes.forEach((box) => syncedBoxes.set(box.id, box));
+  deletedBoxIds.forEach((id) => syncedBoxes.delete(id));
+  syncCursor = cursor;
+  return Array.from(syncedBoxes.values());
+}
+
 export async function listBoxes(): Promise<Box[]> {
   return fetchBoxes();
 }
@@ -23,8 +44,20 @@ export async function createBox(payload: CreateBoxPayload): Promise<Box> {
   return response.data;
 }
 
-export async function updateBox(id: number, payload: UpdateBoxPayload): Promise<Box> {
-  const response = await axios.put(`/api/v1/boxes/${id}`, payload);
+// The updated box is not needed by callers; return=minimal spares the backend loading its items
+export async function updateBox(id: number, payload: UpdateBoxPayload): Promise<void> {
+  await axios.put(`/api/v1/boxes/${id}`, payload, {
+    headers: { Prefer: 'return=minimal' },
+  });
+}
+
+export async function updateBoxes(boxIds: number[], changes: UpdateBoxPayload): Promise<BulkOperationResult> {
+  const response = await axios.put('/api/v1/boxes/update-bulk', { boxIds, changes });
+  return response.data;
+}
+
+export async function deleteBoxes(boxIds: number[]): Promise<BulkOperationResult> {
+  const response = await axios.post('/api/v1/boxes/delete-bulk', { boxIds });
   return response.data;
 }
 
@@ -6,6 +6,11 @@ export async function createItem(payload: CreateItemPayload): Promise<Item> {
   return response.data;
 }
 
+export async function createItems(boxId: number, names: string[]): Promise<Item[]> {
+  const response = await axios.post(`/api/v1/boxes/${boxId}/items/batch`, { names });
+  return response.data || [];
+}
+
 export async function updateItem(id: number, payload: UpdateItemPayload): Promise<Item> {
   const response = await axios.put(`/api/v1/items/${id}`, payload);
   return response.data;
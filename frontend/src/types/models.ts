@@ -6,6 +6,7 @@ export interface Item {
   boxCurrentRoom?: string;
   boxTargetRoom?: string;
   imageUrl?: string;
+  largeImageUrl?: string;
 }
 
 export interface Box {
@@ -23,12 +24,31 @@ export interface Box {
   noStack?: boolean;
   isMovedToTarget?: boolean;
   labelPrinted?: boolean;
+  version?: number;
+}
+
+export interface SyncResponse {
+  cursor: number;
+  // The cursor was older than the retained deletions; the response holds everything
+  resync: boolean;
+  boxes: Box[];
+  items: Item[];
+  deletedBoxIds: number[];
+  deletedItemIds: number[];
+}
+
+export interface BulkOperationResult {
+  requested: number;
+  processed: number;
+  processedIds: number[];
+  missingIds: number[];
 }
 
 export interface BoxPreviewItem {
   id: number;
   name: string;
   imageUrl?: string;
+  largeImageUrl?: string;
 }
 
 export interface BoxPreview {